@@ -29,29 +29,56 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
+import static org.burningwave.core.assembler.StaticComponentContainer.ByteBufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
 import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
-import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.lang.invoke.MethodHandle;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.NavigableSet;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.IterableZipContainer;
+import org.burningwave.core.iterable.Properties;
+import org.burningwave.core.iterable.Properties.Event;
 
 @SuppressWarnings("unchecked")
 public class Cache implements Component {
@@ -67,7 +94,34 @@ public class Cache implements Component {
 	public final ObjectAndPathForResources<ClassLoader, Object> bindedFunctionalInterfaces;
 	public final ObjectAndPathForResources<ClassLoader, Map.Entry<java.lang.reflect.Executable, MethodHandle>> uniqueKeyForExecutableAndMethodHandle;
 	
-	private Cache() {
+	public static class Configuration {
+		
+		public static class Key {
+			
+			public static final String PATH_FOR_CONTENTS_MAX_WEIGHT = "cache.path-for-contents.max-weight";
+			public static final String PATH_FOR_ITERABLE_ZIP_CONTAINERS_MAX_WEIGHT = "cache.path-for-iterable-zip-containers.max-weight";
+			public static final String PATH_FOR_CONTENTS_SPILL_TIER_ENABLED = "cache.path-for-contents.spill-tier.enabled";
+			public static final String PATH_FOR_CONTENTS_SPILL_TIER_SEGMENT_SIZE = "cache.path-for-contents.spill-tier.segment-size";
+			public static final String PATH_FOR_CONTENTS_SPILL_TIER_MAX_SIZE = "cache.path-for-contents.spill-tier.max-size";
+			
+		}
+		
+		public final static Map<String, Object> DEFAULT_VALUES;
+		
+		static {
+			Map<String, Object> defaultValues = new HashMap<>();
+			
+			defaultValues.put(Key.PATH_FOR_CONTENTS_MAX_WEIGHT, "unlimited");
+			defaultValues.put(Key.PATH_FOR_ITERABLE_ZIP_CONTAINERS_MAX_WEIGHT, "unlimited");
+			defaultValues.put(Key.PATH_FOR_CONTENTS_SPILL_TIER_ENABLED, "false");
+			defaultValues.put(Key.PATH_FOR_CONTENTS_SPILL_TIER_SEGMENT_SIZE, "64Mb");
+			defaultValues.put(Key.PATH_FOR_CONTENTS_SPILL_TIER_MAX_SIZE, "unlimited");
+			
+			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
+		}
+	}
+	
+	private Cache(java.util.Properties config) {
 		logInfo("Building cache");
 		pathForContents = new PathForResources<ByteBuffer>(Streams::shareContent);
 		pathForFileSystemItems = new PathForResources<FileSystemItem>(
@@ -77,7 +131,7 @@ public class Cache implements Component {
 		pathForIterableZipContainers = new PathForResources<IterableZipContainer>(
 			(path, zipFileContainer) -> 
 				zipFileContainer.destroy()
-		);
+		).setEvictedItemsDestroyingFlag(false);
 		classLoaderForFields = new ObjectAndPathForResources<>();
 		classLoaderForMethods = new ObjectAndPathForResources<>();
 		uniqueKeyForFields = new ObjectAndPathForResources<>();
@@ -86,16 +140,110 @@ public class Cache implements Component {
 		classLoaderForConstructors = new ObjectAndPathForResources<>();
 		bindedFunctionalInterfaces = new ObjectAndPathForResources<>();	
 		uniqueKeyForExecutableAndMethodHandle = new ObjectAndPathForResources<>();
+		setMaxWeights(config);
+		setSpillTier(config);
+		if (config instanceof Properties) {
+			listenTo((Properties)config);
+		}
 	}
 	
 	public static Cache create() {
-		return new Cache();
+		return new Cache(new java.util.Properties());
+	}
+	
+	public static Cache create(java.util.Properties config) {
+		return new Cache(config);
+	}
+	
+	private void setMaxWeights(java.util.Properties config) {
+		long pathForContentsMaxWeight = retrieveSize(config, Configuration.Key.PATH_FOR_CONTENTS_MAX_WEIGHT);
+		pathForContents.setMaxWeight(ByteBufferHandler::capacity, pathForContentsMaxWeight);
+		long pathForIterableZipContainersMaxWeight = retrieveSize(config, Configuration.Key.PATH_FOR_ITERABLE_ZIP_CONTAINERS_MAX_WEIGHT);
+		pathForIterableZipContainers.setMaxWeight(
+			IterableZipContainer::getSize,
+			pathForIterableZipContainersMaxWeight
+		);
+		logInfo(
+			"max weight of contents cache: {}, max weight of iterable zip containers cache: {}",
+			pathForContentsMaxWeight > 0 ? pathForContentsMaxWeight + " bytes" : "unlimited",
+			pathForIterableZipContainersMaxWeight > 0 ? pathForIterableZipContainersMaxWeight + " bytes" : "unlimited"
+		);
+	}
+	
+	private void setSpillTier(java.util.Properties config) {
+		MappedContentsSpillTier oldSpillTier = (MappedContentsSpillTier)pathForContents.spillTier;
+		if (Objects.toBoolean(IterableObjectHelper.resolveValue(config, Configuration.Key.PATH_FOR_CONTENTS_SPILL_TIER_ENABLED, Configuration.DEFAULT_VALUES))) {
+			long segmentSize = Math.min(retrieveSize(config, Configuration.Key.PATH_FOR_CONTENTS_SPILL_TIER_SEGMENT_SIZE), Integer.MAX_VALUE);
+			long maxSize = retrieveSize(config, Configuration.Key.PATH_FOR_CONTENTS_SPILL_TIER_MAX_SIZE);
+			pathForContents.setSpillTier(
+				new MappedContentsSpillTier(getOrCreateTemporaryFolder("contents"), segmentSize > 0 ? (int)segmentSize : Integer.MAX_VALUE, maxSize)
+			);
+			logInfo(
+				"spill tier of contents cache enabled: segment size {} bytes, max size {}",
+				segmentSize, maxSize > 0 ? maxSize + " bytes" : "unlimited"
+			);
+		} else {
+			pathForContents.setSpillTier(null);
+		}
+		if (oldSpillTier != null) {
+			oldSpillTier.close();
+		}
+	}
+	
+	private long retrieveSize(java.util.Properties config, String key) {
+		String size = IterableObjectHelper.resolveStringValue(config, key, Configuration.DEFAULT_VALUES).trim();
+		if (size.equalsIgnoreCase("autodetect")) {
+			return Runtime.getRuntime().maxMemory() / 4;
+		} else if (size.equalsIgnoreCase("unlimited")) {
+			return -1;
+		}
+		try {
+			return Long.valueOf(size);
+		} catch (Throwable exc) {
+			String unit = size.substring(size.length()-2);
+			String value = size.substring(0, size.length()-2);
+			if (unit.equalsIgnoreCase("KB")) {
+				return new BigDecimal(value).multiply(new BigDecimal(1024)).longValue();
+			} else if (unit.equalsIgnoreCase("MB")) {
+				return new BigDecimal(value).multiply(new BigDecimal(1024 * 1024)).longValue();
+			} else if (unit.equalsIgnoreCase("GB")) {
+				return new BigDecimal(value).multiply(new BigDecimal(1024 * 1024 * 1024)).longValue();
+			} else {
+				return Long.valueOf(value);
+			}
+		}
+	}
+	
+	@Override
+	public <K, V> void processChangeNotification(Properties config, Event event, K key, V newValue, V previousValue) {
+		if (event.name().equals(Event.PUT.name())) {
+			if (key instanceof String) {
+				String keyAsString = (String)key;
+				if (keyAsString.equals(Configuration.Key.PATH_FOR_CONTENTS_MAX_WEIGHT) ||
+					keyAsString.equals(Configuration.Key.PATH_FOR_ITERABLE_ZIP_CONTAINERS_MAX_WEIGHT)
+				) {
+					setMaxWeights(config);
+				} else if (keyAsString.equals(Configuration.Key.PATH_FOR_CONTENTS_SPILL_TIER_ENABLED) ||
+					keyAsString.equals(Configuration.Key.PATH_FOR_CONTENTS_SPILL_TIER_SEGMENT_SIZE) ||
+					keyAsString.equals(Configuration.Key.PATH_FOR_CONTENTS_SPILL_TIER_MAX_SIZE)
+				) {
+					setSpillTier(config);
+				}
+			}
+		}
 	}
 	
 	public static class ObjectAndPathForResources<T, R> implements Component {
-		Map<T, PathForResources<R>> resources;
-		Supplier<PathForResources<R>> pathForResourcesSupplier;
-		String instanceId;
+		private final static Object NULL_KEY;
+		volatile AtomicReferenceArray<WeakKey> resources;
+		int resourcesCount;
+		final ReferenceQueue<Object> collectedKeys;
+		Function<Object, PathForResources<R>> pathForResourcesSupplier;
+		Statistics statistics;
+		
+		static {
+			NULL_KEY = new Object();
+		}
 		
 		public ObjectAndPathForResources() {
 			this(1L, item -> item, null );
@@ -110,43 +258,176 @@ public class Cache implements Component {
 		}
 		
 		public ObjectAndPathForResources(Long partitionStartLevel, Function<R, R> sharer, BiConsumer<String, R> itemDestroyer) {
-			this.resources = new HashMap<>();
-			this.pathForResourcesSupplier = () -> new PathForResources<R>(partitionStartLevel, sharer, itemDestroyer);
-			this.instanceId = Objects.getId(this);
+			this.resources = new AtomicReferenceArray<>(16);
+			this.collectedKeys = new ReferenceQueue<>();
+			this.statistics = new Statistics();
+			this.pathForResourcesSupplier = key -> new PathForResources<R>(partitionStartLevel, sharer, itemDestroyer, statistics);
 		}
 
 		public R getOrUploadIfAbsent(T object, String path, Supplier<R> resourceSupplier) {
-			PathForResources<R> pathForResources = resources.get(object);
+			Object key = object != null ? object : NULL_KEY;
+			PathForResources<R> pathForResources = unwrap(find(key));
 			if (pathForResources == null) {
-				pathForResources = Synchronizer.execute(instanceId + "_" + Objects.getId(object), () -> {
-					PathForResources<R> pathForResourcesTemp = resources.get(object);
-					if (pathForResourcesTemp == null) {
-						pathForResourcesTemp = pathForResourcesSupplier.get();
-						resources.put(object, pathForResourcesTemp);
-					}
-					return pathForResourcesTemp;
-				});
+				pathForResources = getOrCreate(key);
 			}
 			return pathForResources.getOrUploadIfAbsent(path, resourceSupplier);
 		}
 		
+		Object find(Object key) {
+			AtomicReferenceArray<WeakKey> resources = this.resources;
+			WeakKey weakKey = resources.get(System.identityHashCode(key) & (resources.length() - 1));
+			while (weakKey != null) {
+				if (weakKey.get() == key) {
+					return weakKey.value;
+				}
+				weakKey = weakKey.next;
+			}
+			return null;
+		}
+		
+		synchronized PathForResources<R> getOrCreate(Object key) {
+			removeCollectedKeys();
+			AtomicReferenceArray<WeakKey> resources = this.resources;
+			int index = System.identityHashCode(key) & (resources.length() - 1);
+			WeakKey weakKey = resources.get(index);
+			while (weakKey != null && weakKey.get() != key) {
+				weakKey = weakKey.next;
+			}
+			PathForResources<R> pathForResources = weakKey != null ? unwrap(weakKey.value) : null;
+			if (pathForResources != null) {
+				return pathForResources;
+			}
+			pathForResources = pathForResourcesSupplier.apply(key);
+			//The cached items reach their class loader, so the partitions of the non permanent keys are weakly referenced
+			//to let an unused class loader be unloaded at the next collection instead of only under memory pressure
+			Object value = isPermanent(key) ? pathForResources : new WeakReference<>(pathForResources);
+			if (weakKey != null) {
+				weakKey.value = value;
+			} else {
+				resources.set(index, new WeakKey(key, value, resources.get(index), collectedKeys));
+				if (++resourcesCount > resources.length() / 4 * 3) {
+					resize(resources);
+				}
+			}
+			return pathForResources;
+		}
+		
+		void resize(AtomicReferenceArray<WeakKey> resources) {
+			AtomicReferenceArray<WeakKey> newResources = new AtomicReferenceArray<>(resources.length() * 2);
+			for (int i = 0; i < resources.length(); i++) {
+				for (WeakKey weakKey = resources.get(i); weakKey != null; weakKey = weakKey.next) {
+					Object key = weakKey.get();
+					if (key != null) {
+						int index = weakKey.hashCode & (newResources.length() - 1);
+						newResources.set(index, new WeakKey(key, weakKey.value, newResources.get(index), collectedKeys));
+					} else {
+						--resourcesCount;
+					}
+				}
+			}
+			this.resources = newResources;
+		}
+		
+		synchronized Object removeKey(Object key) {
+			removeCollectedKeys();
+			return unlink(key, null);
+		}
+		
+		//Must be called while holding the lock on this object
+		Object unlink(Object key, WeakKey target) {
+			AtomicReferenceArray<WeakKey> resources = this.resources;
+			int index = (target != null ? target.hashCode : System.identityHashCode(key)) & (resources.length() - 1);
+			WeakKey head = resources.get(index);
+			WeakKey weakKey = head;
+			while (weakKey != null && (target != null ? weakKey != target : weakKey.get() != key)) {
+				weakKey = weakKey.next;
+			}
+			if (weakKey == null) {
+				return null;
+			}
+			WeakKey newHead = weakKey.next;
+			for (WeakKey previous = head; previous != weakKey; previous = previous.next) {
+				Object previousKey = previous.get();
+				if (previousKey != null) {
+					newHead = new WeakKey(previousKey, previous.value, newHead, collectedKeys);
+				} else {
+					--resourcesCount;
+				}
+			}
+			resources.set(index, newHead);
+			--resourcesCount;
+			return weakKey.value;
+		}
+		
+		PathForResources<R> unwrap(Object value) {
+			if (value instanceof WeakReference) {
+				return ((WeakReference<PathForResources<R>>)value).get();
+			}
+			return (PathForResources<R>)value;
+		}
+		
+		boolean isPermanent(Object key) {
+			if (key == NULL_KEY) {
+				return true;
+			}
+			if (key instanceof ClassLoader) {
+				ClassLoader classLoader = ClassLoader.getSystemClassLoader();
+				while (classLoader != null) {
+					if (classLoader == key) {
+						return true;
+					}
+					classLoader = classLoader.getParent();
+				}
+			}
+			return false;
+		}
+		
+		//Must be called while holding the lock on this object
+		void removeCollectedKeys() {
+			Reference<?> collectedKey;
+			while ((collectedKey = collectedKeys.poll()) != null) {
+				PathForResources<R> pathForResources = unwrap(unlink(null, (WeakKey)collectedKey));
+				if (pathForResources != null) {
+					pathForResources.clear();
+				}
+			}
+		}
+		
 		public R get(T object, String path) {
-			PathForResources<R> pathForResources = resources.get(object);
-			if (pathForResources == null) {
-				pathForResources = Synchronizer.execute(instanceId + "_mutexManagerForResources_" + Objects.getId(object), () -> {
-					PathForResources<R> pathForResourcesTemp = resources.get(object);
-					if (pathForResourcesTemp == null) {
-						pathForResourcesTemp = pathForResourcesSupplier.get();
-						resources.put(object, pathForResourcesTemp);
+			PathForResources<R> pathForResources = unwrap(find(object != null ? object : NULL_KEY));
+			if (pathForResources != null) {
+				return pathForResources.get(path);
+			}
+			statistics.misses.increment();
+			return null;
+		}
+		
+		public Statistics.Snapshot getStatistics() {
+			long entriesCount = 0;
+			long weight = 0;
+			for (PathForResources<R> pathForResources : getAllPathForResources()) {
+				entriesCount += pathForResources.getLoadedResourcesCount();
+				weight += pathForResources.getWeight();
+			}
+			return statistics.snapshot(entriesCount, weight);
+		}
+		
+		Collection<PathForResources<R>> getAllPathForResources() {
+			Collection<PathForResources<R>> allPathForResources = new java.util.ArrayList<>();
+			AtomicReferenceArray<WeakKey> resources = this.resources;
+			for (int i = 0; i < resources.length(); i++) {
+				for (WeakKey weakKey = resources.get(i); weakKey != null; weakKey = weakKey.next) {
+					PathForResources<R> pathForResources = weakKey.get() != null ? unwrap(weakKey.value) : null;
+					if (pathForResources != null) {
+						allPathForResources.add(pathForResources);
 					}
-					return pathForResourcesTemp;
-				});
+				}
 			}
-			return pathForResources.get(path);
+			return allPathForResources;
 		}
 		
 		public PathForResources<R> remove(T object, boolean destroyItems) {
-			PathForResources<R> pathForResources = resources.remove(object);
+			PathForResources<R> pathForResources = unwrap(removeKey(object != null ? object : NULL_KEY));
 			if (pathForResources != null && destroyItems) {
 				pathForResources.clear(destroyItems);
 			}
@@ -158,7 +439,7 @@ public class Cache implements Component {
 		}
 		
 		public R removePath(T object, String path, boolean destroyItem) {
-			PathForResources<R> pathForResources = resources.get(object);
+			PathForResources<R> pathForResources = unwrap(find(object != null ? object : NULL_KEY));
 			if (pathForResources != null) {
 				return pathForResources.remove(path, destroyItem);
 			}
@@ -171,27 +452,42 @@ public class Cache implements Component {
 		}
 		
 		public ObjectAndPathForResources<T, R> clear(boolean destroyItems) {
-			Map<T, PathForResources<R>> resources;
-			synchronized (this.resources) {	
-				resources = this.resources;
-				this.resources = new HashMap<>();
+			synchronized (this) {
+				removeCollectedKeys();
+			}
+			for (PathForResources<R> pathForResources : getAllPathForResources()) {
+				pathForResources.clear(destroyItems);
 			}
-			BackgroundExecutor.createTask(() -> {
-				for (Entry<T, PathForResources<R>> item : resources.entrySet()) {
-					item.getValue().clear(destroyItems);
-				}
-				resources.clear();
-			}, Thread.MIN_PRIORITY).submit();		
 			return this;
 		}
+		
+		//Bucket nodes are never modified once published, except for the value, so lookups can traverse them without locking
+		static class WeakKey extends WeakReference<Object> {
+			final int hashCode;
+			final WeakKey next;
+			volatile Object value;
+			
+			WeakKey(Object key, Object value, WeakKey next, ReferenceQueue<Object> collectedKeys) {
+				super(key, collectedKeys);
+				this.hashCode = System.identityHashCode(key);
+				this.value = value;
+				this.next = next;
+			}
+		}
 	}
 	
 	public static class PathForResources<R> implements Component  {
-		Map<Long, Map<String, Map<String, R>>> resources;	
+		final Storage<R> storage;
+		final AtomicLong epoch;
+		final AtomicLong destroyingEpoch;
 		Long partitionStartLevel;
 		Function<R, R> sharer;
 		BiConsumer<String, R> itemDestroyer;
-		String instanceId;
+		boolean destroyEvictedItems;
+		ToLongFunction<R> weigher;
+		volatile long maxWeight;
+		volatile SpillTier<R> spillTier;
+		Statistics statistics;
 		
 		private PathForResources() {
 			this(1L, item -> item, null);
@@ -222,124 +518,364 @@ public class Cache implements Component {
 		}
 		
 		private PathForResources(Long partitionStartLevel, Function<R, R> sharer, BiConsumer<String, R> itemDestroyer) {
+			this(partitionStartLevel, sharer, itemDestroyer, new Statistics());
+		}
+		
+		PathForResources(Long partitionStartLevel, Function<R, R> sharer, BiConsumer<String, R> itemDestroyer, Statistics statistics) {
 			this.partitionStartLevel = partitionStartLevel;
 			this.sharer = sharer;
-			this.resources = new HashMap<>();
+			this.storage = new Storage<>();
+			this.epoch = new AtomicLong();
+			this.destroyingEpoch = new AtomicLong();
 			this.itemDestroyer = itemDestroyer;
-			this.instanceId = this.toString();
-		}
-		
-		Map<String, R> retrievePartition(Map<String, Map<String, R>> partion, Long partitionIndex, String path) {
-			String partitionKey = "/";
-			if (partitionIndex > 1) {
-				partitionKey = path.substring(0, path.lastIndexOf("/"));
-				partitionKey = partitionKey.substring(partitionKey.lastIndexOf("/") + 1);
-			}
-			Map<String, R> innerPartion = partion.get(partitionKey);
-			if (innerPartion == null) {
-				String finalPartitionKey = partitionKey;
-				innerPartion = Synchronizer.execute(instanceId + "_mutexManagerForPartitions_" + finalPartitionKey, () -> {
-					Map<String, R> innerPartionTemp = partion.get(finalPartitionKey);
-					if (innerPartionTemp == null) {
-						partion.put(finalPartitionKey, innerPartionTemp = new HashMap<>());
+			this.destroyEvictedItems = true;
+			this.statistics = statistics;
+		}
+		
+		PathForResources<R> setEvictedItemsDestroyingFlag(boolean flag) {
+			this.destroyEvictedItems = flag;
+			return this;
+		}
+		
+		PathForResources<R> setMaxWeight(ToLongFunction<R> weigher, long maxWeight) {
+			this.weigher = weigher;
+			this.maxWeight = maxWeight;
+			evictIfNeeded(storage);
+			return this;
+		}
+		
+		PathForResources<R> setSpillTier(SpillTier<R> spillTier) {
+			this.spillTier = spillTier;
+			return this;
+		}
+		
+		public long getMaxWeight() {
+			return maxWeight;
+		}
+		
+		public long getWeight() {
+			return storage.weight.get();
+		}
+		
+		public R getOrUploadIfAbsent(String path, Supplier<R> resourceSupplier) {
+			Storage<R> storage = this.storage;
+			Object item = storage.resources.get(path);
+			long currentEpoch = epoch.get();
+			if (item instanceof Node) {
+				if (((Node<R>)item).epoch == currentEpoch) {
+					R resource = ((Node<R>)item).get();
+					if (resource != null) {
+						statistics.hits.increment();
+						return sharer.apply(resource);
 					}
-					return innerPartionTemp;
-				});
+				} else {
+					reject(storage, (Node<R>)item);
+				}
 			}
-			return innerPartion;
+			statistics.misses.increment();
+			if (resourceSupplier == null) {
+				if (item instanceof Loader && ((Loader<R>)item).owner != java.lang.Thread.currentThread() &&
+					((Loader<R>)item).epoch == currentEpoch
+				) {
+					R loadedResource = ((Loader<R>)item).join();
+					return loadedResource != null ? sharer.apply(loadedResource) : null;
+				}
+				return null;
+			}
+			return load(storage, path, resourceSupplier);
 		}
 		
-		R getOrUploadIfAbsent(Map<String, R> loadedResources, String path, Supplier<R> resourceSupplier) {
-			R resource = loadedResources.get(path);
-			if (resource == null) {
-				resource = Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
-					R resourceTemp = loadedResources.get(path);
-					if (resourceTemp == null && resourceSupplier != null) {
-						resourceTemp = resourceSupplier.get();
-						if (resourceTemp != null) {
-							loadedResources.put(path, resourceTemp = sharer.apply(resourceTemp));
+		R load(Storage<R> storage, String path, Supplier<R> resourceSupplier) {
+			Map<String, Object> resources = storage.resources;
+			Loader<R> loader = null;
+			while (true) {
+				long currentEpoch = epoch.get();
+				Object item = resources.get(path);
+				if (item == null) {
+					if (loader == null || loader.epoch != currentEpoch) {
+						loader = new Loader<>(currentEpoch);
+					}
+					if ((item = resources.putIfAbsent(path, loader)) == null) {
+						return loader.load(this, storage, path, resourceSupplier);
+					}
+				}
+				if (item instanceof Node) {
+					if (((Node<R>)item).epoch == currentEpoch) {
+						R resource = ((Node<R>)item).get();
+						if (resource != null) {
+							return sharer.apply(resource);
 						}
 					}
-					return resourceTemp;
-				});
+					reject(storage, (Node<R>)item);
+					continue;
+				}
+				Loader<R> currentLoader = (Loader<R>)item;
+				if (currentLoader.owner == java.lang.Thread.currentThread()) {
+					R resourceTemp = statistics.recordLoading(resourceSupplier);
+					return resourceTemp != null ? sharer.apply(resourceTemp) : null;
+				}
+				if (currentLoader.epoch != currentEpoch) {
+					if (loader == null || loader.epoch != currentEpoch) {
+						loader = new Loader<>(currentEpoch);
+					}
+					if (resources.replace(path, currentLoader, loader)) {
+						return loader.load(this, storage, path, resourceSupplier);
+					}
+					continue;
+				}
+				R loadedResource = currentLoader.join();
+				if (loadedResource != null) {
+					return sharer.apply(loadedResource);
+				}
 			}
-			return resource != null? 
-				sharer.apply(resource) :
-				resource;
 		}
 		
-		public R upload(Map<String, R> loadedResources, String path, Supplier<R> resourceSupplier, boolean destroy) {
-			R oldResource = remove(path, destroy);
-			Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
-				R resourceTemp = resourceSupplier.get();
-				if (resourceTemp != null) {
-					loadedResources.put(path, resourceTemp = sharer.apply(resourceTemp));
+		Node<R> store(Storage<R> storage, String path, R resource, Object expected) {
+			Node<R> node = new Node<>(
+				path, resource, weigher != null ? weigher.applyAsLong(resource) : 0,
+				expected instanceof Loader ? ((Loader<R>)expected).epoch : epoch.get()
+			);
+			if (expected != null) {
+				if (!storage.resources.replace(path, expected, node)) {
+					return null;
 				}
-			});
+			} else {
+				Object oldItem = storage.resources.put(path, node);
+				if (oldItem instanceof Node) {
+					unlink(storage, (Node<R>)oldItem);
+				}
+			}
+			storage.paths.add(path);
+			if (weigher != null) {
+				storage.weight.addAndGet(node.weight);
+				storage.probationarySegment.add(node);
+				evictIfNeeded(storage);
+			}
+			return node;
+		}
+		
+		public R upload(String path, Supplier<R> resourceSupplier, boolean destroy) {
+			R oldResource = remove(path, destroy);
+			R resource = statistics.recordLoading(resourceSupplier);
+			if (resource != null) {
+				store(this.storage, path, sharer.apply(resource), null);
+			}
 			return oldResource;
 		}
 		
-		Map<String, Map<String, R>> retrievePartition(Map<Long, Map<String, Map<String, R>>> partitionedResources, Long partitionIndex) {
-			Map<String, Map<String, R>> resources = partitionedResources.get(partitionIndex);
-			if (resources == null) {
-				resources = Synchronizer.execute(instanceId + "_mutexManagerForPartitionedResources_" + partitionIndex.toString(), () -> {
-					Map<String, Map<String, R>> resourcesTemp = partitionedResources.get(partitionIndex);
-					if (resourcesTemp == null) {
-						partitionedResources.put(partitionIndex, resourcesTemp = new HashMap<>());
+		public R get(String path) {
+			return getOrUploadIfAbsent(path, null);
+		}
+		
+		public R remove(String path, boolean destroy) {
+			Storage<R> storage = this.storage;
+			Object item;
+			do {
+				item = storage.resources.get(path);
+				if (!(item instanceof Node)) {
+					return null;
+				}
+			} while (!storage.resources.remove(path, item));
+			unindex(storage, path);
+			R resource = unlink(storage, (Node<R>)item);
+			if (resource != null && itemDestroyer != null && destroy) {
+				destroy(path, resource);
+			}
+			return resource;
+		}
+		
+		public int removeAllUnder(String prefix) {
+			return removeAllUnder(prefix, false);
+		}
+		
+		public int removeAllUnder(String prefix, boolean destroy) {
+			Storage<R> storage = this.storage;
+			int count = 0;
+			for (String path : storage.pathsUnder(prefix)) {
+				Object item;
+				do {
+					item = storage.resources.get(path);
+				} while (item instanceof Node && !storage.resources.remove(path, item));
+				if (!(item instanceof Node)) {
+					if (item == null) {
+						unindex(storage, path);
 					}
-					return resourcesTemp;
-				});
+					continue;
+				}
+				unindex(storage, path);
+				R resource = unlink(storage, (Node<R>)item);
+				if (resource != null) {
+					++count;
+					if (itemDestroyer != null && destroy) {
+						destroy(path, resource);
+					}
+				}
 			}
-			return resources;
+			return count;
 		}
 		
-		public R upload(String path, Supplier<R> resourceSupplier, boolean destroy) {
-			Long occurences = path.chars().filter(ch -> ch == '/').count();
-			Long partitionIndex = occurences > partitionStartLevel? occurences : partitionStartLevel;
-			Map<String, Map<String, R>> partion = retrievePartition(resources, partitionIndex);
-			Map<String, R> nestedPartition = retrievePartition(partion, partitionIndex, path);
-			return upload(nestedPartition, path, resourceSupplier, destroy);
+		public void forEachUnder(String prefix, BiConsumer<String, R> action) {
+			Storage<R> storage = this.storage;
+			long currentEpoch = epoch.get();
+			for (String path : storage.pathsUnder(prefix)) {
+				Object item = storage.resources.get(path);
+				if (isCurrent(item, currentEpoch)) {
+					R resource = ((Node<R>)item).resource;
+					if (resource != null) {
+						action.accept(path, sharer.apply(resource));
+					}
+				}
+			}
 		}
 		
-		public R getOrUploadIfAbsent(String path, Supplier<R> resourceSupplier) {
-			Long occurences = path.chars().filter(ch -> ch == '/').count();
-			Long partitionIndex = occurences > partitionStartLevel? occurences : partitionStartLevel;
-			Map<String, Map<String, R>> partion = retrievePartition(resources, partitionIndex);
-			Map<String, R> nestedPartition = retrievePartition(partion, partitionIndex, path);
-			return getOrUploadIfAbsent(nestedPartition, path, resourceSupplier);
+		public int countUnder(String prefix) {
+			Storage<R> storage = this.storage;
+			long currentEpoch = epoch.get();
+			int count = 0;
+			for (String path : storage.pathsUnder(prefix)) {
+				if (isCurrent(storage.resources.get(path), currentEpoch)) {
+					++count;
+				}
+			}
+			return count;
 		}
 		
-		public R get(String path) {
-			return getOrUploadIfAbsent(path, null);
+		boolean isCurrent(Object item, long currentEpoch) {
+			return item instanceof Node && ((Node<R>)item).epoch == currentEpoch;
 		}
 		
-		public R remove(String path, boolean destroy) {
-			Long occurences = path.chars().filter(ch -> ch == '/').count();
-			Long partitionIndex = occurences > partitionStartLevel? occurences : partitionStartLevel;
-			Map<String, Map<String, R>> partion = retrievePartition(resources, partitionIndex);
-			Map<String, R> nestedPartition = retrievePartition(partion, partitionIndex, path);
-			R item = Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
-				return nestedPartition.remove(path);
-			});
-			if (itemDestroyer != null && destroy && item != null) {
-				String finalPath = path;
-				BackgroundExecutor.createTask(() -> 
-					itemDestroyer.accept(finalPath, item),
-					Thread.MIN_PRIORITY
-				).submit();
-			}
-			return item;
+		boolean reject(Storage<R> storage, Node<R> node) {
+			if (!storage.resources.remove(node.path, node)) {
+				return false;
+			}
+			unindex(storage, node.path);
+			R resource = unlink(storage, node);
+			if (resource != null && itemDestroyer != null && node.epoch < destroyingEpoch.get()) {
+				destroy(node.path, resource);
+			}
+			return true;
 		}
 		
-		public int getLoadedResourcesCount() {
-			return getLoadedResourcesCount(resources);
+		void unindex(Storage<R> storage, String path) {
+			storage.paths.remove(path);
+			if (storage.resources.get(path) instanceof Node) {
+				storage.paths.add(path);
+			}
 		}
 		
-		private int getLoadedResourcesCount(Map<Long, Map<String, Map<String, R>>> resources) {
+		R unlink(Storage<R> storage, Node<R> node) {
+			R resource = node.resource;
+			node.resource = null;
+			if (node.releaser != null) {
+				node.releaser.run();
+			} else if (weigher != null) {
+				storage.weight.addAndGet(-node.weight);
+				storage.unlinkedNodesCount.incrementAndGet();
+			}
+			return resource;
+		}
+		
+		void destroy(String path, R resource) {
+			BackgroundExecutor.createTask(() -> 
+				itemDestroyer.accept(path, resource),
+				Thread.MIN_PRIORITY
+			).submit();
+		}
+		
+		void evictIfNeeded(Storage<R> storage) {
+			long maxWeight = this.maxWeight;
+			if ((maxWeight <= 0 || storage.weight.get() <= maxWeight) && storage.unlinkedNodesCount.get() < Storage.UNLINKED_NODES_COUNT_THRESHOLD) {
+				return;
+			}
+			if (!storage.evicting.compareAndSet(false, true)) {
+				return;
+			}
+			try {
+				if (storage.unlinkedNodesCount.get() >= Storage.UNLINKED_NODES_COUNT_THRESHOLD) {
+					storage.purge();
+				}
+				long maxProtectedSegmentWeight = (maxWeight / 5) * 4;
+				while (maxWeight > 0 && storage.weight.get() > maxWeight) {
+					Node<R> node = storage.probationarySegment.poll();
+					if (node == null) {
+						if ((node = storage.protectedSegment.poll()) == null) {
+							break;
+						}
+						storage.protectedSegmentWeight -= node.weight;
+						if (node.resource != null) {
+							node.accessed = false;
+							storage.probationarySegment.add(node);
+						}
+						continue;
+					}
+					if (node.resource == null) {
+						storage.unlinkedNodesCount.decrementAndGet();
+						continue;
+					}
+					if (node.epoch != epoch.get()) {
+						if (reject(storage, node)) {
+							storage.unlinkedNodesCount.decrementAndGet();
+						}
+						continue;
+					}
+					if (node.accessed) {
+						node.accessed = false;
+						storage.protectedSegment.add(node);
+						storage.protectedSegmentWeight += node.weight;
+						while (storage.protectedSegmentWeight > maxProtectedSegmentWeight) {
+							Node<R> demotedNode = storage.protectedSegment.poll();
+							if (demotedNode == null) {
+								break;
+							}
+							storage.protectedSegmentWeight -= demotedNode.weight;
+							if (demotedNode.resource != null) {
+								storage.probationarySegment.add(demotedNode);
+							} else {
+								storage.unlinkedNodesCount.decrementAndGet();
+							}
+						}
+						continue;
+					}
+					SpillTier<R> spillTier = this.spillTier;
+					if (spillTier != null) {
+						R resource = node.resource;
+						Node<R> spilledNode = resource != null ? spillTier.spill(node, resource) : null;
+						if (spilledNode != null) {
+							if (storage.resources.replace(node.path, node, spilledNode)) {
+								unlink(storage, node);
+								storage.unlinkedNodesCount.decrementAndGet();
+								statistics.spills.increment();
+							} else {
+								spilledNode.releaser.run();
+							}
+							continue;
+						}
+					}
+					if (storage.resources.remove(node.path, node)) {
+						unindex(storage, node.path);
+						R resource = unlink(storage, node);
+						storage.unlinkedNodesCount.decrementAndGet();
+						statistics.evictions.increment();
+						if (resource != null && itemDestroyer != null && destroyEvictedItems) {
+							destroy(node.path, resource);
+						}
+					}
+				}
+			} finally {
+				storage.evicting.set(false);
+			}
+		}
+		
+		public Statistics.Snapshot getStatistics() {
+			return statistics.snapshot(getLoadedResourcesCount(), getWeight());
+		}
+		
+		public int getLoadedResourcesCount() {
+			long currentEpoch = epoch.get();
 			int count = 0;
-			for (Map.Entry<Long, Map<String, Map<String, R>>> partition : resources.entrySet()) {
-				for (Map.Entry<String, Map<String, R>> innerPartition : partition.getValue().entrySet()) {
-					count += innerPartition.getValue().size();
+			for (Object item : storage.resources.values()) {
+				if (isCurrent(item, currentEpoch)) {
+					++count;
 				}
 			}
 			return count;
@@ -351,33 +887,446 @@ public class Cache implements Component {
 		}
 		
 		public PathForResources<R> clear(boolean destroyItems) {
-			Map<Long, Map<String, Map<String, R>>> partitions;
-			synchronized (this.resources) {	
-				partitions = this.resources;
-				this.resources = new HashMap<>();
+			long clearedEpoch = epoch.getAndIncrement();
+			if (destroyItems) {
+				destroyingEpoch.accumulateAndGet(clearedEpoch + 1, Math::max);
 			}
 			BackgroundExecutor.createTask(() -> {
-				clearResources(partitions, destroyItems);
+				reclaim(clearedEpoch);
 			}, Thread.MIN_PRIORITY).submit();
 			return this;
 		}
-
-		void clearResources(Map<Long, Map<String, Map<String, R>>> partitions, boolean destroyItems) {
-			for (Entry<Long, Map<String, Map<String, R>>> partition : partitions.entrySet()) {
-				for (Entry<String, Map<String, R>> nestedPartition : partition.getValue().entrySet()) {
-					if (itemDestroyer != null && destroyItems) {
-						IterableObjectHelper.deepClear(nestedPartition.getValue(), (path, resource) -> { 
-							this.itemDestroyer.accept(path, resource);
-						});
+		
+		void reclaim(long clearedEpoch) {
+			Storage<R> storage = this.storage;
+			for (Object item : storage.resources.values()) {
+				if (item instanceof Node && ((Node<R>)item).epoch <= clearedEpoch) {
+					reject(storage, (Node<R>)item);
+				}
+			}
+		}
+		
+		static class Storage<R> {
+			private final static long UNLINKED_NODES_COUNT_THRESHOLD = 4096;
+			final Map<String, Object> resources;
+			final NavigableSet<String> paths;
+			final Queue<Node<R>> probationarySegment;
+			final Queue<Node<R>> protectedSegment;
+			final AtomicLong weight;
+			final AtomicLong unlinkedNodesCount;
+			final AtomicBoolean evicting;
+			long protectedSegmentWeight;
+			
+			Storage() {
+				resources = new ConcurrentHashMap<>();
+				paths = new ConcurrentSkipListSet<>();
+				probationarySegment = new ConcurrentLinkedQueue<>();
+				protectedSegment = new ConcurrentLinkedQueue<>();
+				weight = new AtomicLong();
+				unlinkedNodesCount = new AtomicLong();
+				evicting = new AtomicBoolean();
+			}
+			
+			NavigableSet<String> pathsUnder(String prefix) {
+				return paths.subSet(prefix, true, prefix + Character.MAX_VALUE, false);
+			}
+			
+			void purge() {
+				probationarySegment.removeIf(node -> node.resource == null);
+				Iterator<Node<R>> protectedNodes = protectedSegment.iterator();
+				while (protectedNodes.hasNext()) {
+					Node<R> node = protectedNodes.next();
+					if (node.resource == null) {
+						protectedNodes.remove();
+						protectedSegmentWeight -= node.weight;
+					}
+				}
+				unlinkedNodesCount.set(0);
+			}
+		}
+		
+		static class Node<R> {
+			final String path;
+			final long weight;
+			final long epoch;
+			final Runnable releaser;
+			volatile R resource;
+			volatile boolean accessed;
+			
+			Node(String path, R resource, long weight, long epoch) {
+				this(path, resource, weight, epoch, null);
+			}
+			
+			Node(String path, R resource, long weight, long epoch, Runnable releaser) {
+				this.path = path;
+				this.resource = resource;
+				this.weight = weight;
+				this.epoch = epoch;
+				this.releaser = releaser;
+			}
+			
+			R get() {
+				if (!accessed) {
+					accessed = true;
+				}
+				return resource;
+			}
+		}
+		
+		static abstract class SpillTier<R> implements Closeable, ManagedLogger {
+			
+			abstract Node<R> spill(Node<R> node, R resource);
+			
+		}
+		
+		static class Loader<R> {
+			final java.lang.Thread owner;
+			final long epoch;
+			volatile boolean done;
+			R resource;
+			
+			Loader(long epoch) {
+				this.owner = java.lang.Thread.currentThread();
+				this.epoch = epoch;
+			}
+			
+			R load(PathForResources<R> pathForResources, Storage<R> storage, String path, Supplier<R> resourceSupplier) {
+				R resourceTemp = null;
+				try {
+					resourceTemp = pathForResources.statistics.recordLoading(resourceSupplier);
+					if (resourceTemp != null) {
+						resourceTemp = pathForResources.sharer.apply(resourceTemp);
+						Node<R> node = pathForResources.store(storage, path, resourceTemp, this);
+						if (node != null && pathForResources.epoch.get() != epoch) {
+							pathForResources.reject(storage, node);
+						}
 					} else {
-						nestedPartition.getValue().clear();
+						storage.resources.remove(path, this);
+					}
+				} catch (Throwable exc) {
+					storage.resources.remove(path, this);
+					throw exc;
+				} finally {
+					synchronized (this) {
+						this.resource = resourceTemp;
+						done = true;
+						notifyAll();
 					}
 				}
-				partition.getValue().clear();
+				return resourceTemp != null ? pathForResources.sharer.apply(resourceTemp) : null;
 			}
-			partitions.clear();
+			
+			synchronized R join() {
+				while (!done) {
+					try {
+						wait();
+					} catch (InterruptedException exc) {
+						Throwables.throwException(exc);
+					}
+				}
+				return resource;
+			}
+		}
+		
+	}
+	
+	static class MappedContentsSpillTier extends PathForResources.SpillTier<ByteBuffer> {
+		private final File folder;
+		private final int segmentSize;
+		private final long maxSize;
+		private final Set<Segment> segments;
+		private Segment currentSegment;
+		private long size;
+		private boolean closed;
+		
+		MappedContentsSpillTier(File folder, int segmentSize, long maxSize) {
+			this.folder = folder;
+			this.segmentSize = segmentSize;
+			this.maxSize = maxSize;
+			this.segments = new HashSet<>();
+		}
+		
+		@Override
+		synchronized PathForResources.Node<ByteBuffer> spill(PathForResources.Node<ByteBuffer> node, ByteBuffer content) {
+			if (closed) {
+				return null;
+			}
+			ByteBuffer source = Streams.shareContent(content);
+			int length = ByteBufferHandler.limit(source);
+			if (length == 0) {
+				return null;
+			}
+			Segment segment = currentSegment;
+			if (segment == null || segment.capacity - segment.position < length) {
+				int capacity = Math.max(segmentSize, length);
+				if (maxSize > 0 && size + capacity > maxSize) {
+					return null;
+				}
+				try {
+					segment = new Segment(capacity);
+				} catch (IOException exc) {
+					logError("Unable to create spill segment in " + folder.getAbsolutePath(), exc);
+					return null;
+				}
+				if (currentSegment != null) {
+					currentSegment.seal();
+				}
+				currentSegment = segment;
+			}
+			return new PathForResources.Node<>(node.path, segment.append(source, length), 0, node.epoch, segment::release);
+		}
+		
+		synchronized long getSize() {
+			return size;
+		}
+		
+		@Override
+		public synchronized void close() {
+			closed = true;
+			currentSegment = null;
+			for (Segment segment : new HashSet<>(segments)) {
+				segment.discard();
+			}
+		}
+		
+		class Segment {
+			final File file;
+			final FileChannel channel;
+			final MappedByteBuffer buffer;
+			final int capacity;
+			final AtomicInteger itemsCount;
+			final AtomicBoolean discarded;
+			volatile boolean sealed;
+			int position;
+			
+			Segment(int capacity) throws IOException {
+				this.file = File.createTempFile("segment-", ".bin", folder);
+				try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+					this.channel = randomAccessFile.getChannel();
+					this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+				} catch (IOException exc) {
+					FileSystemHelper.delete(file);
+					throw exc;
+				}
+				this.capacity = capacity;
+				this.itemsCount = new AtomicInteger();
+				this.discarded = new AtomicBoolean();
+				segments.add(this);
+				size += capacity;
+			}
+			
+			ByteBuffer append(ByteBuffer source, int length) {
+				ByteBuffer target = ByteBufferHandler.duplicate(buffer);
+				ByteBufferHandler.limit(target, position + length);
+				ByteBufferHandler.position(target, position);
+				target.put(source);
+				ByteBufferHandler.position(target, position);
+				position += length;
+				itemsCount.incrementAndGet();
+				return target.slice().asReadOnlyBuffer();
+			}
+			
+			void release() {
+				if (itemsCount.decrementAndGet() == 0 && sealed) {
+					discard();
+				}
+			}
+			
+			void seal() {
+				sealed = true;
+				if (itemsCount.get() == 0) {
+					discard();
+				}
+			}
+			
+			void discard() {
+				if (discarded.compareAndSet(false, true)) {
+					synchronized (MappedContentsSpillTier.this) {
+						segments.remove(this);
+						size -= capacity;
+					}
+					FileSystemHelper.delete(file);
+				}
+			}
+		}
+	}
+	
+	public Map<String, Statistics.Snapshot> getStatistics() {
+		Map<String, Statistics.Snapshot> statistics = new LinkedHashMap<>();
+		statistics.put("pathForContents", pathForContents.getStatistics());
+		statistics.put("pathForFileSystemItems", pathForFileSystemItems.getStatistics());
+		statistics.put("pathForIterableZipContainers", pathForIterableZipContainers.getStatistics());
+		statistics.put("classLoaderForFields", classLoaderForFields.getStatistics());
+		statistics.put("classLoaderForMethods", classLoaderForMethods.getStatistics());
+		statistics.put("classLoaderForConstructors", classLoaderForConstructors.getStatistics());
+		statistics.put("uniqueKeyForFields", uniqueKeyForFields.getStatistics());
+		statistics.put("uniqueKeyForConstructors", uniqueKeyForConstructors.getStatistics());
+		statistics.put("uniqueKeyForMethods", uniqueKeyForMethods.getStatistics());
+		statistics.put("bindedFunctionalInterfaces", bindedFunctionalInterfaces.getStatistics());
+		statistics.put("uniqueKeyForExecutableAndMethodHandle", uniqueKeyForExecutableAndMethodHandle.getStatistics());
+		return statistics;
+	}
+	
+	public void logStatistics() {
+		logInfo("Cache statistics:\n\n{}", IterableObjectHelper.toString(getStatistics(), 1));
+	}
+	
+	public static class Statistics {
+		private final static int LOADING_TIME_BUCKETS_COUNT = 64;
+		final LongAdder hits;
+		final LongAdder misses;
+		final LongAdder loads;
+		final LongAdder failedLoads;
+		final LongAdder totalLoadingTime;
+		final LongAdder evictions;
+		final LongAdder spills;
+		final AtomicLongArray loadingTimeHistogram;
+		
+		Statistics() {
+			hits = new LongAdder();
+			misses = new LongAdder();
+			loads = new LongAdder();
+			failedLoads = new LongAdder();
+			totalLoadingTime = new LongAdder();
+			evictions = new LongAdder();
+			spills = new LongAdder();
+			loadingTimeHistogram = new AtomicLongArray(LOADING_TIME_BUCKETS_COUNT);
+		}
+		
+		<R> R recordLoading(Supplier<R> resourceSupplier) {
+			long startTime = System.nanoTime();
+			boolean failed = true;
+			try {
+				R resource = resourceSupplier.get();
+				failed = false;
+				return resource;
+			} finally {
+				long elapsedTime = System.nanoTime() - startTime;
+				loads.increment();
+				if (failed) {
+					failedLoads.increment();
+				}
+				totalLoadingTime.add(elapsedTime);
+				loadingTimeHistogram.incrementAndGet(
+					Math.min(LOADING_TIME_BUCKETS_COUNT - 1, LOADING_TIME_BUCKETS_COUNT - Long.numberOfLeadingZeros(Math.max(elapsedTime, 1)))
+				);
+			}
+		}
+		
+		Snapshot snapshot(long entriesCount, long weight) {
+			long[] loadingTimeHistogram = new long[LOADING_TIME_BUCKETS_COUNT];
+			for (int i = 0; i < loadingTimeHistogram.length; i++) {
+				loadingTimeHistogram[i] = this.loadingTimeHistogram.get(i);
+			}
+			return new Snapshot(
+				hits.sum(), misses.sum(), loads.sum(), failedLoads.sum(), totalLoadingTime.sum(),
+				evictions.sum(), spills.sum(), entriesCount, weight, loadingTimeHistogram
+			);
 		}
 		
+		public static class Snapshot {
+			private final long hitsCount;
+			private final long missesCount;
+			private final long loadsCount;
+			private final long failedLoadsCount;
+			private final long totalLoadingTime;
+			private final long evictionsCount;
+			private final long spillsCount;
+			private final long entriesCount;
+			private final long weight;
+			private final long[] loadingTimeHistogram;
+			
+			Snapshot(
+				long hitsCount, long missesCount, long loadsCount, long failedLoadsCount, long totalLoadingTime,
+				long evictionsCount, long spillsCount, long entriesCount, long weight, long[] loadingTimeHistogram
+			) {
+				this.hitsCount = hitsCount;
+				this.missesCount = missesCount;
+				this.loadsCount = loadsCount;
+				this.failedLoadsCount = failedLoadsCount;
+				this.totalLoadingTime = totalLoadingTime;
+				this.evictionsCount = evictionsCount;
+				this.spillsCount = spillsCount;
+				this.entriesCount = entriesCount;
+				this.weight = weight;
+				this.loadingTimeHistogram = loadingTimeHistogram;
+			}
+			
+			public long getHitsCount() {
+				return hitsCount;
+			}
+			
+			public long getMissesCount() {
+				return missesCount;
+			}
+			
+			public double getHitRate() {
+				long requestsCount = hitsCount + missesCount;
+				return requestsCount > 0 ? (double)hitsCount / requestsCount : 1D;
+			}
+			
+			public long getLoadsCount() {
+				return loadsCount;
+			}
+			
+			public long getFailedLoadsCount() {
+				return failedLoadsCount;
+			}
+			
+			public long getTotalLoadingTime() {
+				return totalLoadingTime;
+			}
+			
+			public long getAverageLoadingTime() {
+				return loadsCount > 0 ? totalLoadingTime / loadsCount : 0;
+			}
+			
+			public long getLoadingTimePercentile(double percentile) {
+				if (percentile < 0 || percentile > 100) {
+					throw new IllegalArgumentException("percentile must be between 0 and 100");
+				}
+				long samplesCount = 0;
+				for (long bucketSamplesCount : loadingTimeHistogram) {
+					samplesCount += bucketSamplesCount;
+				}
+				if (samplesCount == 0) {
+					return 0;
+				}
+				long threshold = (long)Math.ceil(samplesCount * (percentile / 100D));
+				long cumulatedSamplesCount = 0;
+				for (int i = 0; i < loadingTimeHistogram.length; i++) {
+					cumulatedSamplesCount += loadingTimeHistogram[i];
+					if (cumulatedSamplesCount >= threshold && cumulatedSamplesCount > 0) {
+						return i < 63 ? (1L << i) - 1 : Long.MAX_VALUE;
+					}
+				}
+				return Long.MAX_VALUE;
+			}
+			
+			public long getEvictionsCount() {
+				return evictionsCount;
+			}
+			
+			public long getSpillsCount() {
+				return spillsCount;
+			}
+			
+			public long getEntriesCount() {
+				return entriesCount;
+			}
+			
+			public long getWeight() {
+				return weight;
+			}
+			
+			@Override
+			public String toString() {
+				return "hits: " + hitsCount + ", misses: " + missesCount + ", hit rate: " + String.format("%.2f", getHitRate() * 100) + "%" +
+					", loads: " + loadsCount + ", failed loads: " + failedLoadsCount +
+					", loading time (avg/p50/p99): " + getAverageLoadingTime() + "/" + getLoadingTimePercentile(50) + "/" + getLoadingTimePercentile(99) + "ns" +
+					", evictions: " + evictionsCount + ", spills: " + spillsCount + ", entries: " + entriesCount + ", weight: " + weight;
+			}
+		}
 	}
 	
 	public void clear(Cleanable... excluded) {
@@ -420,5 +1369,10 @@ public class Cache implements Component {
 	
 	public void close(boolean destroyItem) {
 		clear(destroyItem);
+		PathForResources.SpillTier<ByteBuffer> spillTier = pathForContents.spillTier;
+		if (spillTier != null) {
+			pathForContents.setSpillTier(null);
+			spillTier.close();
+		}
 	}
 }
@@ -32,8 +32,10 @@ import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -53,6 +55,20 @@ public class StaticComponentContainer {
 			private static final String GROUP_NAME_FOR_NAMED_ELEMENTS = "group-name-for-named-elements";
 			private static final String HIDE_BANNER_ON_INIT = "hide-banner-on-init";
 			private static final String BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_ENABLED = "background-executor.task-creation-tracking.enabled";
+			private static final String BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_SAMPLING_RATE = "background-executor.task-creation-tracking.sampling-rate";
+			private static final String BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_MAX_CAPTURED_FRAMES = "background-executor.task-creation-tracking.max-captured-frames";
+			private static final String BACKGROUND_EXECUTOR_WORK_STEALING_ENABLED = "background-executor.work-stealing.enabled";
+			private static final String BACKGROUND_EXECUTOR_DIRECT_HAND_OFF_ENABLED = "background-executor.direct-hand-off.enabled";
+			private static final String BACKGROUND_EXECUTOR_FAIR_SCHEDULING_ENABLED = "background-executor.fair-scheduling.enabled";
+			private static final String BACKGROUND_EXECUTOR_FAIR_SCHEDULING_MAX_CONCURRENT_TASKS = "background-executor.fair-scheduling.max-concurrent-tasks";
+			private static final String BACKGROUND_EXECUTOR_FAIR_SCHEDULING_MAX_WAIT_TIME = "background-executor.fair-scheduling.max-wait-time";
+			private static final String BACKGROUND_EXECUTOR_FAIR_SCHEDULING_WEIGHTS = "background-executor.fair-scheduling.weights";
+			private static final String BACKGROUND_EXECUTOR_STATISTICS_ENABLED = "background-executor.statistics.enabled";
+			private static final String BACKGROUND_EXECUTOR_STATISTICS_LOGGER_ENABLED = "background-executor.statistics.logger.enabled";
+			private static final String BACKGROUND_EXECUTOR_STATISTICS_LOGGER_INTERVAL = "background-executor.statistics.logger.interval";
+			private static final String BACKGROUND_EXECUTOR_QUEUE_CAPACITY = "background-executor.queue.capacity";
+			private static final String BACKGROUND_EXECUTOR_QUEUE_OVERFLOW_POLICY = "background-executor.queue.overflow-policy";
+			private static final String BACKGROUND_EXECUTOR_VIRTUAL_THREADS_ENABLED_FOR_PRIORITIES = "background-executor.virtual-threads.enabled-for-priorities";
 			private static final String BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_ENABLED = "background-executor.all-tasks-monitoring.enabled";
 			private static final String BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_MINIMUM_ELAPSED_TIME_TO_CONSIDER_A_TASK_AS_PROBABLE_DEAD_LOCKED = "background-executor.all-tasks-monitoring.minimum-elapsed-time-to-consider-a-task-as-probable-dead-locked";
 			private static final String BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_LOGGER_ENABLED = "background-executor.all-tasks-monitoring.logger.enabled";
@@ -60,6 +76,10 @@ public class StaticComponentContainer {
 			private static final String BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_PROBABLE_DEAD_LOCKED_TASKS_HANDLING_POLICY = "background-executor.all-tasks-monitoring.probable-dead-locked-tasks-handling.policy";
 			private static final String SYNCHRONIZER_ALL_THREADS_MONITORING_ENABLED = "synchronizer.all-threads-monitoring.enabled";
 			private static final String SYNCHRONIZER_ALL_THREADS_MONITORING_INTERVAL = "synchronizer.all-threads-monitoring.interval";	
+			private static final String SYNCHRONIZER_DEAD_LOCK_DETECTION_ENABLED = "synchronizer.dead-lock-detection.enabled";
+			private static final String SYNCHRONIZER_PINNING_DETECTION_ENABLED = "synchronizer.pinning-detection.enabled";
+			private static final String SYNCHRONIZER_CONTENTION_PROFILING_ENABLED = "synchronizer.contention-profiling.enabled";
+			private static final String SYNCHRONIZER_CONTENTION_PROFILING_SAMPLING_RATE = "synchronizer.contention-profiling.sampling-rate";
 		}
 		
 		public final static Map<String, Object> DEFAULT_VALUES;
@@ -84,6 +104,26 @@ public class StaticComponentContainer {
 				90000
 			);
 			
+			defaultValues.put(
+				Key.SYNCHRONIZER_CONTENTION_PROFILING_ENABLED,
+				false
+			);
+			
+			defaultValues.put(
+				Key.SYNCHRONIZER_DEAD_LOCK_DETECTION_ENABLED,
+				false
+			);
+			
+			defaultValues.put(
+				Key.SYNCHRONIZER_PINNING_DETECTION_ENABLED,
+				false
+			);
+			
+			defaultValues.put(
+				Key.SYNCHRONIZER_CONTENTION_PROFILING_SAMPLING_RATE,
+				64
+			);
+			
 			defaultValues.put(
 				Key.BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_ENABLED,
 				true
@@ -110,11 +150,81 @@ public class StaticComponentContainer {
 				"${" + Key.BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_ENABLED +"}"
 			);
 			
+			defaultValues.put(
+				Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_SAMPLING_RATE,
+				16
+			);
+			
+			defaultValues.put(
+				Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_MAX_CAPTURED_FRAMES,
+				32
+			);
+			
 			defaultValues.put(
 				Key.BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_LOGGER_ENABLED,
 				false
 			);
 			
+			defaultValues.put(
+				Key.BACKGROUND_EXECUTOR_WORK_STEALING_ENABLED,
+				false
+			);
+			
+			defaultValues.put(
+				Key.BACKGROUND_EXECUTOR_DIRECT_HAND_OFF_ENABLED,
+				false
+			);
+			
+			defaultValues.put(
+				Key.BACKGROUND_EXECUTOR_FAIR_SCHEDULING_ENABLED,
+				false
+			);
+			
+			defaultValues.put(
+				Key.BACKGROUND_EXECUTOR_FAIR_SCHEDULING_MAX_CONCURRENT_TASKS,
+				"autodetect"
+			);
+			
+			defaultValues.put(
+				Key.BACKGROUND_EXECUTOR_FAIR_SCHEDULING_MAX_WAIT_TIME,
+				1000
+			);
+			
+			defaultValues.put(
+				Key.BACKGROUND_EXECUTOR_FAIR_SCHEDULING_WEIGHTS,
+				"1:1, 5:4, 10:16"
+			);
+			
+			defaultValues.put(
+				Key.BACKGROUND_EXECUTOR_STATISTICS_ENABLED,
+				false
+			);
+			
+			defaultValues.put(
+				Key.BACKGROUND_EXECUTOR_STATISTICS_LOGGER_ENABLED,
+				false
+			);
+			
+			defaultValues.put(
+				Key.BACKGROUND_EXECUTOR_STATISTICS_LOGGER_INTERVAL,
+				60000
+			);
+			
+			defaultValues.put(
+				Key.BACKGROUND_EXECUTOR_VIRTUAL_THREADS_ENABLED_FOR_PRIORITIES,
+				""
+			);
+			
+			defaultValues.put(
+				Key.BACKGROUND_EXECUTOR_QUEUE_CAPACITY,
+				"unlimited"
+			);
+			
+			defaultValues.put(
+				Key.BACKGROUND_EXECUTOR_QUEUE_OVERFLOW_POLICY,
+				"block"
+			);
+			
 			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 		}
 	}
@@ -160,6 +270,7 @@ public class StaticComponentContainer {
 			properties.putAll(org.burningwave.core.iterable.IterableObjectHelper.Configuration.DEFAULT_VALUES);
 			properties.putAll(org.burningwave.core.ManagedLogger.Repository.Configuration.DEFAULT_VALUES);
 			properties.putAll(org.burningwave.core.concurrent.Thread.Supplier.Configuration.DEFAULT_VALUES);
+			properties.putAll(org.burningwave.core.Cache.Configuration.DEFAULT_VALUES);
 			properties.putAll(Configuration.DEFAULT_VALUES);
 			Map.Entry<org.burningwave.core.iterable.Properties, URL> propBag =
 				Resources.loadFirstOneFound(properties, "burningwave.static.properties", "burningwave.static.default.properties");
@@ -192,6 +303,36 @@ public class StaticComponentContainer {
 										)
 									)
 								);
+							} else if (keyAsString.equals(Configuration.Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_SAMPLING_RATE) ||
+								keyAsString.equals(Configuration.Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_MAX_CAPTURED_FRAMES)
+							) {
+								setTasksCreationTrackingSampling(config);
+							} else if (keyAsString.equals(Configuration.Key.BACKGROUND_EXECUTOR_WORK_STEALING_ENABLED)) {
+								BackgroundExecutor.setWorkStealingFlag(
+									Objects.toBoolean(
+										config.resolveValue(
+											Configuration.Key.BACKGROUND_EXECUTOR_WORK_STEALING_ENABLED
+										)
+									)
+								);
+							} else if (keyAsString.equals(Configuration.Key.BACKGROUND_EXECUTOR_DIRECT_HAND_OFF_ENABLED)) {
+								BackgroundExecutor.setDirectHandOffFlag(
+									Objects.toBoolean(
+										config.resolveValue(
+											Configuration.Key.BACKGROUND_EXECUTOR_DIRECT_HAND_OFF_ENABLED
+										)
+									)
+								);
+							} else if (keyAsString.startsWith("background-executor.fair-scheduling.")) {
+								setFairScheduling(config);
+							} else if (keyAsString.startsWith("background-executor.statistics.")) {
+								setStatistics(config);
+							} else if (keyAsString.equals(Configuration.Key.BACKGROUND_EXECUTOR_VIRTUAL_THREADS_ENABLED_FOR_PRIORITIES)) {
+								setVirtualThreadsFlags(config);
+							} else if (keyAsString.equals(Configuration.Key.BACKGROUND_EXECUTOR_QUEUE_CAPACITY) ||
+								keyAsString.equals(Configuration.Key.BACKGROUND_EXECUTOR_QUEUE_OVERFLOW_POLICY)
+							) {
+								setTasksQueueCapacity(config);
 							} else if (keyAsString.equals(Configuration.Key.SYNCHRONIZER_ALL_THREADS_MONITORING_ENABLED)) {
 								if (Objects.toBoolean(config.resolveValue(Configuration.Key.SYNCHRONIZER_ALL_THREADS_MONITORING_ENABLED))) {
 									Synchronizer.startAllThreadsMonitoring(
@@ -212,6 +353,14 @@ public class StaticComponentContainer {
 										)
 									)
 								);
+							} else if (keyAsString.equals(Configuration.Key.SYNCHRONIZER_CONTENTION_PROFILING_ENABLED) ||
+								keyAsString.equals(Configuration.Key.SYNCHRONIZER_CONTENTION_PROFILING_SAMPLING_RATE)
+							) {
+								setContentionProfilingFlag(config);
+							} else if (keyAsString.equals(Configuration.Key.SYNCHRONIZER_DEAD_LOCK_DETECTION_ENABLED)) {
+								setDeadLockDetectionFlag(config);
+							} else if (keyAsString.equals(Configuration.Key.SYNCHRONIZER_PINNING_DETECTION_ENABLED)) {
+								setPinningDetectionFlag(config);
 							}
 						}
 					}
@@ -240,6 +389,20 @@ public class StaticComponentContainer {
 			if (Objects.toBoolean(GlobalProperties.resolveValue(Configuration.Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_ENABLED))) {
 				BackgroundExecutor.setTasksCreationTrackingFlag(true);
 			}
+			setTasksCreationTrackingSampling(GlobalProperties);
+			setTasksQueueCapacity(GlobalProperties);
+			if (Objects.toBoolean(GlobalProperties.resolveValue(Configuration.Key.BACKGROUND_EXECUTOR_WORK_STEALING_ENABLED))) {
+				BackgroundExecutor.setWorkStealingFlag(true);
+			}
+			if (Objects.toBoolean(GlobalProperties.resolveValue(Configuration.Key.BACKGROUND_EXECUTOR_DIRECT_HAND_OFF_ENABLED))) {
+				BackgroundExecutor.setDirectHandOffFlag(true);
+			}
+			if (Objects.toBoolean(GlobalProperties.resolveValue(Configuration.Key.BACKGROUND_EXECUTOR_FAIR_SCHEDULING_ENABLED))) {
+				setFairScheduling(GlobalProperties);
+			}
+			if (Objects.toBoolean(GlobalProperties.resolveValue(Configuration.Key.BACKGROUND_EXECUTOR_STATISTICS_ENABLED))) {
+				setStatistics(GlobalProperties);
+			}
 			if (Objects.toBoolean(GlobalProperties.resolveValue(Configuration.Key.BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_ENABLED))) {
 				BackgroundExecutor.startAllTasksMonitoring(
 					retrieveAllTasksMonitoringConfig()
@@ -279,7 +442,7 @@ public class StaticComponentContainer {
 			}
 			Classes = org.burningwave.core.classes.Classes.create();
 			ClassLoaders = org.burningwave.core.classes.Classes.Loaders.create();
-			Cache = org.burningwave.core.Cache.create();
+			Cache = org.burningwave.core.Cache.create(GlobalProperties);
 			synchronized (org.burningwave.core.classes.Members.class) {
 				Members = org.burningwave.core.classes.Members.create();
 				Fields = org.burningwave.core.classes.Fields.create();
@@ -329,6 +492,10 @@ public class StaticComponentContainer {
 				})
 			);
 			FileSystemHelper.startSweeping();
+			setContentionProfilingFlag(GlobalProperties);
+			setDeadLockDetectionFlag(GlobalProperties);
+			setPinningDetectionFlag(GlobalProperties);
+			setVirtualThreadsFlags(GlobalProperties);
 			if (Objects.toBoolean(
 				GlobalProperties.resolveValue(
 					Configuration.Key.SYNCHRONIZER_ALL_THREADS_MONITORING_ENABLED
@@ -366,6 +533,94 @@ public class StaticComponentContainer {
 		);
 	};
 	
+	private static void setTasksCreationTrackingSampling(Properties config) {
+		BackgroundExecutor.setTasksCreationTrackingSamplingRate(
+			Objects.toInt(config.resolveValue(Configuration.Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_SAMPLING_RATE))
+		).setTasksCreationTrackingMaxCapturedFrames(
+			Objects.toInt(config.resolveValue(Configuration.Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_MAX_CAPTURED_FRAMES))
+		);
+	}
+	
+	private static void setTasksQueueCapacity(Properties config) {
+		String capacity = config.resolveStringValue(Configuration.Key.BACKGROUND_EXECUTOR_QUEUE_CAPACITY).trim();
+		BackgroundExecutor.setTasksQueueCapacity(
+			capacity.equalsIgnoreCase("unlimited") ? -1 : Integer.valueOf(capacity),
+			QueuedTasksExecutor.OverflowPolicy.forName(
+				config.resolveStringValue(Configuration.Key.BACKGROUND_EXECUTOR_QUEUE_OVERFLOW_POLICY)
+			)
+		);
+	}
+	
+	private static void setFairScheduling(Properties config) {
+		if (!Objects.toBoolean(config.resolveValue(Configuration.Key.BACKGROUND_EXECUTOR_FAIR_SCHEDULING_ENABLED))) {
+			BackgroundExecutor.disableFairScheduling();
+			return;
+		}
+		String maxConcurrentTasks = config.resolveStringValue(Configuration.Key.BACKGROUND_EXECUTOR_FAIR_SCHEDULING_MAX_CONCURRENT_TASKS).trim();
+		Map<Integer, Integer> weights = new HashMap<>();
+		for (String weight : config.resolveStringValue(Configuration.Key.BACKGROUND_EXECUTOR_FAIR_SCHEDULING_WEIGHTS).split(",")) {
+			String[] priorityAndWeight = weight.split(":");
+			weights.put(Integer.valueOf(priorityAndWeight[0].trim()), Integer.valueOf(priorityAndWeight[1].trim()));
+		}
+		BackgroundExecutor.enableFairScheduling(
+			maxConcurrentTasks.equalsIgnoreCase("autodetect") ?
+				ThreadSupplier.getMaxPoolableThreadsCount() : Integer.valueOf(maxConcurrentTasks),
+			Objects.toLong(config.resolveValue(Configuration.Key.BACKGROUND_EXECUTOR_FAIR_SCHEDULING_MAX_WAIT_TIME)),
+			weights
+		);
+	}
+	
+	private static void setStatistics(Properties config) {
+		boolean statisticsEnabled = Objects.toBoolean(config.resolveValue(Configuration.Key.BACKGROUND_EXECUTOR_STATISTICS_ENABLED));
+		BackgroundExecutor.setStatisticsFlag(statisticsEnabled);
+		if (statisticsEnabled && Objects.toBoolean(config.resolveValue(Configuration.Key.BACKGROUND_EXECUTOR_STATISTICS_LOGGER_ENABLED))) {
+			BackgroundExecutor.startStatisticsLogging(
+				Objects.toLong(config.resolveValue(Configuration.Key.BACKGROUND_EXECUTOR_STATISTICS_LOGGER_INTERVAL))
+			);
+		} else {
+			BackgroundExecutor.stopStatisticsLogging();
+		}
+	}
+	
+	private static void setContentionProfilingFlag(Properties config) {
+		if (Objects.toBoolean(config.resolveValue(Configuration.Key.SYNCHRONIZER_CONTENTION_PROFILING_ENABLED))) {
+			Synchronizer.startContentionProfiling(
+				Objects.toInt(config.resolveValue(Configuration.Key.SYNCHRONIZER_CONTENTION_PROFILING_SAMPLING_RATE))
+			);
+		} else {
+			Synchronizer.stopContentionProfiling();
+		}
+	}
+	
+	private static void setDeadLockDetectionFlag(Properties config) {
+		if (Objects.toBoolean(config.resolveValue(Configuration.Key.SYNCHRONIZER_DEAD_LOCK_DETECTION_ENABLED))) {
+			Synchronizer.startDeadLockDetection();
+		} else {
+			Synchronizer.stopDeadLockDetection();
+		}
+	}
+	
+	private static void setPinningDetectionFlag(Properties config) {
+		if (Objects.toBoolean(config.resolveValue(Configuration.Key.SYNCHRONIZER_PINNING_DETECTION_ENABLED))) {
+			Synchronizer.startPinningDetection();
+		} else {
+			Synchronizer.stopPinningDetection();
+		}
+	}
+	
+	private static void setVirtualThreadsFlags(Properties config) {
+		Collection<String> priorities = new HashSet<>();
+		String prioritiesAsString = config.resolveStringValue(Configuration.Key.BACKGROUND_EXECUTOR_VIRTUAL_THREADS_ENABLED_FOR_PRIORITIES);
+		if (prioritiesAsString != null) {
+			for (String priority : prioritiesAsString.split(",")) {
+				priorities.add(priority.trim());
+			}
+		}
+		for (int priority : new int[] {Thread.MIN_PRIORITY, Thread.NORM_PRIORITY, Thread.MAX_PRIORITY}) {
+			BackgroundExecutor.setVirtualThreadsFlag(priority, priorities.contains(String.valueOf(priority)));
+		}
+	}
+	
 	static void showBanner() {
 		List<String> bannerList = Arrays.asList(
 			Resources.getAsStringBuffer(
@@ -43,7 +43,6 @@ import java.util.function.Supplier;
 
 import org.burningwave.core.classes.ClassCriteria.TestContext;
 import org.burningwave.core.classes.SearchContext.InitContext;
-import org.burningwave.core.concurrent.Synchronizer.Mutex;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
 import org.burningwave.core.iterable.Properties;
@@ -120,7 +119,7 @@ public abstract class ClassPathScannerWithCachingSupport<I, C extends SearchCont
 		currentScannedPath = FileSystemItem.ofPath(basePath);
 		Predicate<String> refreshCache = searchConfig.getCheckForAddedClassesPredicate();
 		if (refreshCache != null && refreshCache.test(basePath)) {
-			Synchronizer.execute(instanceId + "_" + basePath, () -> {
+			Synchronizer.execute(instanceId, basePath, () -> {
 				Optional.ofNullable(cache.get(basePath)).ifPresent((classesForPath) -> {
 					cache.remove(basePath);
 					classesForPath.clear();
@@ -131,10 +130,9 @@ public abstract class ClassPathScannerWithCachingSupport<I, C extends SearchCont
 		Map<String, I> classesForPath = cache.get(basePath);
 		if (classesForPath == null) {
 			if (classCriteriaHasNoPredicate && scanFileCriteriaHasNoPredicate) {
-				Mutex mutex = Synchronizer.getMutex(instanceId + "_" + basePath);
-				synchronized(mutex) {
-					classesForPath = cache.get(basePath);
-					if (classesForPath == null) {
+				classesForPath = Synchronizer.execute(instanceId, basePath, () -> {
+					Map<String, I> classesForPathTemp = cache.get(basePath);
+					if (classesForPathTemp == null) {
 						currentScannedPath.findInAllChildren(filterAndExecutor);
 						Map<String, I> itemsForPath = new ConcurrentHashMap<>();
 						Map<String, I> itemsFound = context.getItemsFound(basePath);
@@ -142,12 +140,12 @@ public abstract class ClassPathScannerWithCachingSupport<I, C extends SearchCont
 							itemsForPath.putAll(itemsFound);
 						}
 						this.cache.put(basePath, itemsForPath);
-						Synchronizer.removeIfUnused(mutex);
-						return;
 					}
-					Synchronizer.removeIfUnused(mutex);
+					return classesForPathTemp;
+				});
+				if (classesForPath != null) {
+					context.addAllItemsFound(basePath, classesForPath);
 				}
-				context.addAllItemsFound(basePath, classesForPath);
 				return;
 			} else {
 				currentScannedPath.findInAllChildren(filterAndExecutor);
@@ -283,7 +281,7 @@ public abstract class ClassPathScannerWithCachingSupport<I, C extends SearchCont
 		}
 		Collection<String> pathsToBeRemoved = new HashSet<>(cache.keySet());
 		for (String path : pathsToBeRemoved) {
-			Synchronizer.execute( instanceId + "_" + path, () -> {				
+			Synchronizer.execute(instanceId, path, () -> {				
 				FileSystemItem.ofPath(path).reset();
 				Map<String, I> items = cache.remove(path);
 				clearItemsForPath(items);
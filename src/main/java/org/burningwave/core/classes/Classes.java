@@ -766,7 +766,7 @@ public class Classes implements Component, MembersRetriever {
 			    	0, cls.getName().lastIndexOf(".")
 			    );
 			    if (retrieveLoadedPackage(classLoader, pckgName) == null) {
-			    	Synchronizer.execute(classLoader + "_" + pckgName,() -> {
+			    	Synchronizer.execute(classLoader, pckgName, () -> {
 			    		if (retrieveLoadedPackage(classLoader, pckgName) == null) {
 			    			definePackage(classLoader, definePackageMethod, pckgName, null, null, null, null, null, null, null);
 			    		}
@@ -44,6 +44,8 @@ public class CompilationConfig {
 	private boolean storingCompiledClassesEnabled;
 	private boolean storingCompiledClassesToNewFolderEnabled;
 	
+	private long timeout;
+	
 	private CompilationConfig() {
 		this.sources = new HashSet<>();
 		storingCompiledClassesEnabled = true;
@@ -75,6 +77,11 @@ public class CompilationConfig {
 		this.storingCompiledClassesToNewFolderEnabled = flag;
 		return this;
 	}
+	
+	public CompilationConfig setTimeout(long timeout) {
+		this.timeout = timeout;
+		return this;
+	}
 
 
 ////////////////////	
@@ -178,6 +185,10 @@ public class CompilationConfig {
 	boolean isStoringCompiledClassesToNewFolderEnabled() {
 		return storingCompiledClassesToNewFolderEnabled;
 	}
+	
+	long getTimeout() {
+		return timeout;
+	}
 
 }
 
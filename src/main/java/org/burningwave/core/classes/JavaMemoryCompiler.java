@@ -150,7 +150,8 @@ public class JavaMemoryCompiler implements Component {
 			getClassPathsFrom(config),
 			getClassRepositoriesFrom(config),
 			config.isStoringCompiledClassesEnabled(),
-			config.isStoringCompiledClassesToNewFolderEnabled()
+			config.isStoringCompiledClassesToNewFolderEnabled(),
+			config.getTimeout()
 		);
 	}
 
@@ -183,7 +184,8 @@ public class JavaMemoryCompiler implements Component {
 		Collection<String> classPaths, 
 		Collection<String> classRepositoriesPaths,
 		boolean storeCompiledClasses,
-		boolean storeCompiledClassesToNewFolder
+		boolean storeCompiledClassesToNewFolder,
+		long timeout
 	) {	
 		return BackgroundExecutor.createTask(() -> {
 			logInfo("Try to compile: \n\n{}\n", String.join("\n", SourceCodeHandler.addLineCounter(sources)));
@@ -217,7 +219,7 @@ public class JavaMemoryCompiler implements Component {
 				);
 				return new Compilation.Result(FileSystemItem.ofPath(storedFilesClassPath), compiledFiles, new HashSet<>(context.classPaths));
 			}
-		}).submit();
+		}).setTimeout(timeout).submit();
 	}	
 	
 	private void sourcesToMemorySources(Collection<String> sources, Collection<MemorySource> memorySources) {
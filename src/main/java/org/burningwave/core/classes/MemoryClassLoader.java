@@ -213,7 +213,7 @@ public class MemoryClassLoader extends ClassLoader implements Component {
 		    	0, cls.getName().lastIndexOf(".")
 		    );
 		    if (ClassLoaders.retrieveLoadedPackage(this, pckgName) == null) {
-		    	Synchronizer.execute(instanceId + "_" + pckgName, () -> {
+		    	Synchronizer.execute(instanceId, pckgName, () -> {
 		    		if (ClassLoaders.retrieveLoadedPackage(this, pckgName) == null) {
 		    			definePackage(pckgName, null, null, null, null, null, null, null);
 		    		}
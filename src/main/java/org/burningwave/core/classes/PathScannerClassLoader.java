@@ -126,7 +126,7 @@ public class PathScannerClassLoader extends org.burningwave.core.classes.MemoryC
 		try {
 			for (String path : paths) {
 				if (checkForAddedClasses.test(path) || !hasBeenLoaded(path, !checkForAddedClasses.test(path))) {
-					Synchronizer.execute(instanceId + "_" + path, () -> {
+					Synchronizer.executeWrite(instanceId, path, () -> {
 						if (checkForAddedClasses.test(path) || !hasBeenLoaded(path, !checkForAddedClasses.test(path))) {
 							FileSystemItem pathFIS = FileSystemItem.ofPath(path);
 							if (checkForAddedClasses.test(path)) {
@@ -0,0 +1,195 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.concurrent;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ExecutionStatistics {
+	LongAdder submittedTasksCount;
+	LongAdder completedTasksCount;
+	LongAdder failedTasksCount;
+	Histogram queueWaitTime;
+	Histogram runTime;
+
+	ExecutionStatistics() {
+		submittedTasksCount = new LongAdder();
+		completedTasksCount = new LongAdder();
+		failedTasksCount = new LongAdder();
+		queueWaitTime = new Histogram();
+		runTime = new Histogram();
+	}
+
+	void onSubmitted() {
+		submittedTasksCount.increment();
+	}
+
+	void onExecuted(long runTimeInMicroseconds, boolean failed) {
+		runTime.record(runTimeInMicroseconds);
+		if (failed) {
+			failedTasksCount.increment();
+		} else {
+			completedTasksCount.increment();
+		}
+	}
+
+	public long getSubmittedTasksCount() {
+		return submittedTasksCount.sum();
+	}
+
+	public long getCompletedTasksCount() {
+		return completedTasksCount.sum();
+	}
+
+	public long getFailedTasksCount() {
+		return failedTasksCount.sum();
+	}
+
+	public Histogram getQueueWaitTime() {
+		return queueWaitTime;
+	}
+
+	public Histogram getRunTime() {
+		return runTime;
+	}
+
+	public void reset() {
+		submittedTasksCount.reset();
+		completedTasksCount.reset();
+		failedTasksCount.reset();
+		queueWaitTime.reset();
+		runTime.reset();
+	}
+
+	public String getInfoAsString() {
+		return Strings.compile(
+			"submitted tasks: {}, completed tasks: {}, failed tasks: {}\n\tqueue wait time {}\n\trun time {}",
+			getSubmittedTasksCount(), getCompletedTasksCount(), getFailedTasksCount(),
+			queueWaitTime.getInfoAsString(), runTime.getInfoAsString()
+		);
+	}
+
+	//Log-linear histogram: every power of two range is split in 16 buckets, so the relative error is below 7%
+	public static class Histogram {
+		private final static int SUB_BUCKETS_COUNT_MAGNITUDE = 4;
+		private final static int SUB_BUCKETS_COUNT = 1 << SUB_BUCKETS_COUNT_MAGNITUDE;
+
+		AtomicLongArray counts;
+		LongAdder count;
+		LongAdder sum;
+		AtomicLong max;
+
+		Histogram() {
+			counts = new AtomicLongArray((64 - SUB_BUCKETS_COUNT_MAGNITUDE + 1) * SUB_BUCKETS_COUNT);
+			count = new LongAdder();
+			sum = new LongAdder();
+			max = new AtomicLong();
+		}
+
+		public void record(long value) {
+			if (value < 0) {
+				value = 0;
+			}
+			counts.incrementAndGet(indexOf(value));
+			count.increment();
+			sum.add(value);
+			long currentMax;
+			while (value > (currentMax = max.get()) && !max.compareAndSet(currentMax, value)) {}
+		}
+
+		int indexOf(long value) {
+			if (value < SUB_BUCKETS_COUNT) {
+				return (int)value;
+			}
+			int magnitude = 63 - Long.numberOfLeadingZeros(value);
+			int subBucketIndex = (int)(value >>> (magnitude - SUB_BUCKETS_COUNT_MAGNITUDE)) & (SUB_BUCKETS_COUNT - 1);
+			return (magnitude - SUB_BUCKETS_COUNT_MAGNITUDE + 1) * SUB_BUCKETS_COUNT + subBucketIndex;
+		}
+
+		long highestValueOf(int index) {
+			if (index < SUB_BUCKETS_COUNT) {
+				return index;
+			}
+			int shift = index / SUB_BUCKETS_COUNT - 1;
+			long lowestValue = (long)(SUB_BUCKETS_COUNT + index % SUB_BUCKETS_COUNT) << shift;
+			return lowestValue + (1L << shift) - 1;
+		}
+
+		public long getCount() {
+			return count.sum();
+		}
+
+		public long getMax() {
+			return max.get();
+		}
+
+		public double getMean() {
+			long count = this.count.sum();
+			return count > 0 ? (double)sum.sum() / count : 0;
+		}
+
+		public long getValueAtPercentile(double percentile) {
+			long count = 0;
+			for (int i = 0; i < counts.length(); i++) {
+				count += counts.get(i);
+			}
+			if (count == 0) {
+				return 0;
+			}
+			long countAtPercentile = Math.max(1, (long)Math.ceil(count * Math.min(percentile, 100D) / 100D));
+			long cumulativeCount = 0;
+			for (int i = 0; i < counts.length(); i++) {
+				if ((cumulativeCount += counts.get(i)) >= countAtPercentile) {
+					return Math.min(highestValueOf(i), getMax());
+				}
+			}
+			return getMax();
+		}
+
+		public void reset() {
+			for (int i = 0; i < counts.length(); i++) {
+				counts.set(i, 0);
+			}
+			count.reset();
+			sum.reset();
+			max.set(0);
+		}
+
+		public String getInfoAsString() {
+			return Strings.compile(
+				"(microseconds) - count: {}, mean: {}, p50: {}, p90: {}, p99: {}, p99.9: {}, max: {}",
+				getCount(), (long)getMean(), getValueAtPercentile(50), getValueAtPercentile(90),
+				getValueAtPercentile(99), getValueAtPercentile(99.9), getMax()
+			);
+		}
+	}
+}
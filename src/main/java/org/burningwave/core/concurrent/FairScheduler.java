@@ -0,0 +1,163 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.concurrent;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.burningwave.core.ManagedLogger;
+
+//Stride scheduler that shares a limited number of execution slots among the executors of a group
+public class FairScheduler implements ManagedLogger {
+	private final static long STRIDE_DIVIDEND = 1L << 20;
+
+	Map<QueuedTasksExecutor, Entry> entries;
+	int maxConcurrentTasks;
+	long maxWaitTime;
+	int runningTasksCount;
+	long virtualTime;
+	long maxStride;
+	long agedGrantsCount;
+	long capEscapesCount;
+
+	FairScheduler(int maxConcurrentTasks, long maxWaitTime) {
+		if (maxConcurrentTasks < 1) {
+			Throwables.throwException("Max concurrent tasks must be greater than zero");
+		}
+		if (maxWaitTime < 1) {
+			Throwables.throwException("Max wait time must be greater than zero");
+		}
+		this.entries = new IdentityHashMap<>();
+		this.maxConcurrentTasks = maxConcurrentTasks;
+		this.maxWaitTime = maxWaitTime;
+	}
+
+	FairScheduler register(QueuedTasksExecutor queuedTasksExecutor, int weight) {
+		if (weight < 1) {
+			Throwables.throwException("Weight of {} must be greater than zero", queuedTasksExecutor.name);
+		}
+		long stride = STRIDE_DIVIDEND / weight;
+		entries.put(queuedTasksExecutor, new Entry(stride));
+		maxStride = Math.max(maxStride, stride);
+		return this;
+	}
+
+	void acquire(QueuedTasksExecutor queuedTasksExecutor) {
+		Entry entry = entries.get(queuedTasksExecutor);
+		synchronized (this) {
+			if (entry.waitingCount++ == 0) {
+				entry.waitingSince = System.currentTimeMillis();
+				entry.pass = Math.max(entry.pass, virtualTime);
+			}
+			try {
+				long now;
+				while (!canRun(entry, now = System.currentTimeMillis())) {
+					long waitingTime = now - entry.waitingSince;
+					wait(waitingTime < maxWaitTime ? maxWaitTime - waitingTime :
+						waitingTime < maxWaitTime * 2 ? maxWaitTime * 2 - waitingTime :
+						maxWaitTime
+					);
+				}
+				if (runningTasksCount >= maxConcurrentTasks) {
+					++capEscapesCount;
+				} else if (now - entry.waitingSince >= maxWaitTime) {
+					++agedGrantsCount;
+				}
+			} catch (InterruptedException exc) {
+				logError(exc);
+			}
+			++runningTasksCount;
+			virtualTime = entry.pass;
+			entry.pass += entry.stride;
+			if (--entry.waitingCount > 0) {
+				entry.waitingSince = System.currentTimeMillis();
+			}
+			notifyAll();
+		}
+	}
+
+	//An aged entry moves to the head of the stride order but still waits for a free slot: only the entry with the lowest
+	//weight may take a single slot beyond the limit, after having waited twice the max wait time
+	private boolean canRun(Entry entry, long now) {
+		boolean aged = now - entry.waitingSince >= maxWaitTime;
+		for (Entry otherEntry : entries.values()) {
+			if (otherEntry != entry && otherEntry.waitingCount > 0) {
+				boolean otherEntryAged = now - otherEntry.waitingSince >= maxWaitTime;
+				if (aged ? otherEntryAged && otherEntry.waitingSince < entry.waitingSince :
+					otherEntryAged || otherEntry.pass < entry.pass
+				) {
+					return false;
+				}
+			}
+		}
+		if (runningTasksCount < maxConcurrentTasks) {
+			return true;
+		}
+		return runningTasksCount == maxConcurrentTasks && entry.stride == maxStride &&
+			now - entry.waitingSince >= maxWaitTime * 2;
+	}
+
+	synchronized void release() {
+		--runningTasksCount;
+		notifyAll();
+	}
+
+	public synchronized int getRunningTasksCount() {
+		return runningTasksCount;
+	}
+
+	public synchronized long getAgedGrantsCount() {
+		return agedGrantsCount;
+	}
+
+	public synchronized long getCapEscapesCount() {
+		return capEscapesCount;
+	}
+
+	public int getMaxConcurrentTasks() {
+		return maxConcurrentTasks;
+	}
+
+	public long getMaxWaitTime() {
+		return maxWaitTime;
+	}
+
+	static class Entry {
+		long stride;
+		long pass;
+		int waitingCount;
+		long waitingSince;
+
+		Entry(long stride) {
+			this.stride = stride;
+		}
+	}
+}
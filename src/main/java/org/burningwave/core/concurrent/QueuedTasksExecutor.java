@@ -32,41 +32,76 @@ import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLog
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
-import static org.burningwave.core.assembler.StaticComponentContainer.ThreadHolder;
 import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.burningwave.core.Closeable;
 import org.burningwave.core.Component;
 import org.burningwave.core.ManagedLogger;
 import org.burningwave.core.function.ThrowingBiConsumer;
+import org.burningwave.core.function.ThrowingConsumer;
+import org.burningwave.core.function.ThrowingFunction;
 import org.burningwave.core.function.ThrowingRunnable;
 import org.burningwave.core.function.ThrowingSupplier;
 
 @SuppressWarnings({"unchecked", "resource"})
 public class QueuedTasksExecutor implements Component {
 	private final static Map<String, TaskAbst<?,?>> runOnlyOnceTasksToBeExecuted;
+	final static ThreadLocal<TaskAbst<?, ?>> currentTask;
 	Thread.Supplier threadSupplier;
+	Thread.VirtualSupplier virtualThreadSupplier;
 	String name;
 	java.lang.Thread tasksLauncher;
-	List<TaskAbst<?, ?>> tasksQueue;
+	volatile boolean tasksLauncherWaiting;
+	NavigableMap<QueueKey, TaskAbst<?, ?>> tasksQueue;
+	AtomicLong queuedTasksCounter;
+	AtomicInteger queuedTasksCount;
+	volatile int tasksQueueCapacity;
+	volatile OverflowPolicy overflowPolicy;
+	volatile int waitingProducersCount;
+	LongAdder rejectedTasksCount;
+	LongAdder droppedTasksCount;
+	LongAdder tasksExecutedInCallerThreadCount;
+	Map<java.lang.Thread, Deque<TaskAbst<?, ?>>> workersTasksQueues;
+	volatile boolean workStealingEnabled;
+	volatile boolean directHandOffEnabled;
+	volatile FairScheduler fairScheduler;
+	volatile ExecutionStatistics statistics;
+	LongAdder handedOffTasksCount;
 	Set<TaskAbst<?, ?>> tasksInExecution;
+	volatile TimerWheel timerWheel;
 	Boolean supended;
 	volatile int defaultPriority;
 	long executedTasksCount;
@@ -75,29 +110,45 @@ public class QueuedTasksExecutor implements Component {
 	Boolean terminated;
 	Runnable initializer;
 	boolean taskCreationTrackingEnabled;
+	volatile int taskCreationTrackingSamplingRate;
+	volatile int taskCreationTrackingMaxCapturedFrames;
 	Object resumeCallerMutex;
 	Object executingFinishedWaiterMutex;
 	Object suspensionCallerMutex;
 	Object executableCollectionFillerMutex;
+	Object tasksQueueSlotsMutex;
 	Object terminatingMutex;
 	
 	static {
 		runOnlyOnceTasksToBeExecuted = new ConcurrentHashMap<>();
+		currentTask = new ThreadLocal<>();
 	}
 	
 	QueuedTasksExecutor(String name, Thread.Supplier threadSupplier, int defaultPriority, boolean isDaemon) {
 		initializer = () -> {
 			this.threadSupplier = threadSupplier;
-			tasksQueue = new CopyOnWriteArrayList<>();
+			tasksQueue = new ConcurrentSkipListMap<>();
+			queuedTasksCounter = new AtomicLong();
+			queuedTasksCount = new AtomicInteger();
+			rejectedTasksCount = new LongAdder();
+			droppedTasksCount = new LongAdder();
+			tasksExecutedInCallerThreadCount = new LongAdder();
+			handedOffTasksCount = new LongAdder();
+			workersTasksQueues = new ConcurrentHashMap<>();
 			tasksInExecution = ConcurrentHashMap.newKeySet();
 			this.resumeCallerMutex = new Object();
 			this.executingFinishedWaiterMutex = new Object();
 			this.suspensionCallerMutex = new Object();
 			this.executableCollectionFillerMutex = new Object();
+			this.tasksQueueSlotsMutex = new Object();
 			this.terminatingMutex = new Object();
 			this.name = name;
 			this.defaultPriority = defaultPriority;
 			this.isDaemon = isDaemon;
+			this.taskCreationTrackingSamplingRate = 1;
+			this.taskCreationTrackingMaxCapturedFrames = -1;
+			this.tasksQueueCapacity = -1;
+			this.overflowPolicy = OverflowPolicy.BLOCK;
 			init0();
 		};		
 		init();
@@ -116,33 +167,40 @@ public class QueuedTasksExecutor implements Component {
 				if (checkAndNotifySuspension()) {
 					continue;
 				}
-				if (!tasksQueue.isEmpty()) {
-					Iterator<TaskAbst<?, ?>> taskIterator = tasksQueue.iterator();
-					while (taskIterator.hasNext()) {
-						if (checkAndNotifySuspension() || terminated) {
-							break;
-						}
-						TaskAbst<?, ?> task = taskIterator.next();
-						synchronized (task) {
-							if (!tasksQueue.remove(task)) {
-								continue;
-							}
-						}
+				TaskAbst<?, ?> task = pollFirstQueuedTask();
+				if (task == null) {
+					task = steal();
+				}
+				if (task != null) {
+					onDequeued();
+					tasksInExecution.add(task);
+					FairScheduler fairScheduler = this.fairScheduler;
+					if (fairScheduler != null) {
+						fairScheduler.acquire(this);
+						task.fairScheduler = fairScheduler;
+					}
+					Thread.VirtualSupplier virtualThreadSupplier = this.virtualThreadSupplier;
+					if (virtualThreadSupplier != null) {
+						task.setExecutor(virtualThreadSupplier).start();
+					} else {
 						task.setExecutor(threadSupplier.getOrCreate()).start();
 					}
 				} else {
 					synchronized(executableCollectionFillerMutex) {
-						if (tasksQueue.isEmpty()) {
-							try {
+						tasksLauncherWaiting = true;
+						try {
+							if (!hasQueuedTasks()) {
 								synchronized(executingFinishedWaiterMutex) {
 									executingFinishedWaiterMutex.notifyAll();
 								}
 								if (!supended) {
 									executableCollectionFillerMutex.wait();
 								}
-							} catch (InterruptedException exc) {
-								logError(exc);
 							}
+						} catch (InterruptedException exc) {
+							logError(exc);
+						} finally {
+							tasksLauncherWaiting = false;
 						}
 					}
 				}
@@ -202,6 +260,130 @@ public class QueuedTasksExecutor implements Component {
 		return this;
 	}
 	
+	public QueuedTasksExecutor setTasksCreationTrackingSamplingRate(int samplingRate) {
+		if (samplingRate < 1) {
+			Throwables.throwException("Sampling rate must be greater than zero");
+		}
+		this.taskCreationTrackingSamplingRate = samplingRate;
+		return this;
+	}
+	
+	public QueuedTasksExecutor setTasksCreationTrackingMaxCapturedFrames(int maxCapturedFrames) {
+		this.taskCreationTrackingMaxCapturedFrames = maxCapturedFrames;
+		return this;
+	}
+	
+	StackTraceElement[] retrieveStackTraceOnCreation() {
+		if (taskCreationTrackingEnabled) {
+			int samplingRate = taskCreationTrackingSamplingRate;
+			if (samplingRate == 1 || ThreadLocalRandom.current().nextInt(samplingRate) == 0) {
+				return StackTraceCapturer.capture(taskCreationTrackingMaxCapturedFrames);
+			}
+		}
+		return null;
+	}
+	
+	public QueuedTasksExecutor setTasksQueueCapacity(int capacity, OverflowPolicy overflowPolicy) {
+		if (overflowPolicy == null) {
+			Throwables.throwException("Overflow policy cannot be null");
+		}
+		this.overflowPolicy = overflowPolicy;
+		this.tasksQueueCapacity = capacity;
+		notifyTasksQueueSlotsWaiters();
+		return this;
+	}
+	
+	public int getTasksQueueCapacity() {
+		return tasksQueueCapacity;
+	}
+	
+	public OverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+	
+	public int getQueuedTasksCount() {
+		return queuedTasksCount.get();
+	}
+	
+	public long getRejectedTasksCount() {
+		return rejectedTasksCount.sum();
+	}
+	
+	public long getDroppedTasksCount() {
+		return droppedTasksCount.sum();
+	}
+	
+	public long getTasksExecutedInCallerThreadCount() {
+		return tasksExecutedInCallerThreadCount.sum();
+	}
+	
+	public QueuedTasksExecutor setWorkStealingFlag(boolean flag) {
+		this.workStealingEnabled = flag;
+		return this;
+	}
+	
+	public QueuedTasksExecutor setStatisticsFlag(boolean flag) {
+		if (flag && statistics == null) {
+			statistics = new ExecutionStatistics();
+		} else if (!flag) {
+			statistics = null;
+		}
+		return this;
+	}
+	
+	public ExecutionStatistics getStatistics() {
+		return statistics;
+	}
+	
+	public List<TaskAbst<?, ?>> getLongestRunningTasks(int maxTasksCount) {
+		return tasksInExecution.stream().filter(task ->
+			task.startTime != null && !task.hasFinished()
+		).sorted(
+			Comparator.comparing(task -> task.startTime)
+		).limit(maxTasksCount).collect(Collectors.toList());
+	}
+	
+	public String getStatisticsAsString() {
+		ExecutionStatistics statistics = this.statistics;
+		if (statistics == null) {
+			return "";
+		}
+		StringBuffer log = new StringBuffer(Strings.compile("\n{} - {}", name, statistics.getInfoAsString()));
+		long currentTime = System.currentTimeMillis();
+		for (TaskAbst<?, ?> task : getLongestRunningTasks(3)) {
+			Long startTime = task.startTime;
+			log.append(Strings.compile("\n\trunning for {}ms: {}{}",
+				startTime != null ? currentTime - startTime : 0,
+				task,
+				task.stackTraceOnCreation != null && !task.getCreatorInfos().isEmpty() ?
+					" created by " + task.getCreatorInfos().get(0) : ""
+			));
+		}
+		return log.toString();
+	}
+	
+	public QueuedTasksExecutor setDirectHandOffFlag(boolean flag) {
+		this.directHandOffEnabled = flag;
+		return this;
+	}
+	
+	public long getHandedOffTasksCount() {
+		return handedOffTasksCount.sum();
+	}
+	
+	public QueuedTasksExecutor setVirtualThreadsFlag(boolean flag) {
+		if (flag && virtualThreadSupplier == null) {
+			if (Thread.VirtualSupplier.isSupported()) {
+				virtualThreadSupplier = Thread.VirtualSupplier.create(name);
+			} else {
+				logWarn("Virtual threads are not supported by this JVM: {} will keep using platform threads", name);
+			}
+		} else if (!flag) {
+			virtualThreadSupplier = null;
+		}
+		return this;
+	}
+	
 	public <T> ProducerTask<T> createTask(ThrowingSupplier<T, ? extends Throwable> executable) {
 		ProducerTask<T> task = (ProducerTask<T>) getProducerTaskSupplier().apply((ThrowingSupplier<Object, ? extends Throwable>) executable);
 		task.priority = this.defaultPriority;
@@ -209,7 +391,7 @@ public class QueuedTasksExecutor implements Component {
 	}
 	
 	<T> Function<ThrowingSupplier<T, ? extends Throwable>, ProducerTask<T>> getProducerTaskSupplier() {
-		return executable -> new ProducerTask<T>(executable, taskCreationTrackingEnabled) {
+		return executable -> new ProducerTask<T>(executable, retrieveStackTraceOnCreation()) {
 			
 			@Override
 			QueuedTasksExecutor getQueuedTasksExecutor() {
@@ -231,7 +413,7 @@ public class QueuedTasksExecutor implements Component {
 	}
 	
 	<T> Function<ThrowingRunnable<? extends Throwable> , Task> getTaskSupplier() {
-		return executable -> new Task(executable, taskCreationTrackingEnabled) {
+		return executable -> new Task(executable, retrieveStackTraceOnCreation()) {
 			
 			@Override
 			QueuedTasksExecutor getQueuedTasksExecutor() {
@@ -246,13 +428,90 @@ public class QueuedTasksExecutor implements Component {
 		};
 	}
 
+	public <T> ProducerTask<T> submit(CompletionStage<T> completionStage) {
+		CompletableFuture<T> completableFuture = completionStage.toCompletableFuture();
+		return createTask(() -> completableFuture.join()).submitAfter(completableFuture, true);
+	}
+	
+	public ProducerTask<Void> allOf(Collection<? extends TaskAbst<?, ?>> tasks) {
+		return submit(CompletableFuture.allOf(toCompletableFutures(tasks)));
+	}
+	
+	public ProducerTask<Object> anyOf(Collection<? extends TaskAbst<?, ?>> tasks) {
+		return submit(CompletableFuture.anyOf(toCompletableFutures(tasks)));
+	}
+	
+	public List<Task> createTasks(Collection<? extends ThrowingRunnable<? extends Throwable>> executables) {
+		List<Task> tasks = new ArrayList<>(executables.size());
+		for (ThrowingRunnable<? extends Throwable> executable : executables) {
+			tasks.add(createTask(executable));
+		}
+		return tasks;
+	}
+	
+	public Batch submitAll(Collection<? extends TaskAbst<?, ?>> tasks) {
+		List<TaskAbst<?, ?>> tasksToBeQueued = new ArrayList<>(tasks.size());
+		for (TaskAbst<?, ?> task : tasks) {
+			if (task.getQueuedTasksExecutor() == this) {
+				tasksToBeQueued.add(task);
+			} else {
+				task.submit();
+			}
+		}
+		addAllToQueue(tasksToBeQueued);
+		return new Batch(tasks);
+	}
+	
+	void addAllToQueue(List<TaskAbst<?, ?>> tasks) {
+		List<TaskAbst<?, ?>> tasksToBeQueued = new ArrayList<>(tasks.size());
+		for (TaskAbst<?, ?> task : tasks) {
+			if (task.runOnlyOnce) {
+				task.submit();
+			} else {
+				task.markAsSubmitted();
+				tasksToBeQueued.add(task);
+			}
+		}
+		if (tasksToBeQueued.isEmpty()) {
+			return;
+		}
+		if ((workStealingEnabled && workersTasksQueues.containsKey(java.lang.Thread.currentThread())) ||
+			!reserveTasksQueueSlots(tasksToBeQueued.size())
+		) {
+			for (TaskAbst<?, ?> task : tasksToBeQueued) {
+				task.addToQueue();
+				task.linkToCurrentTask();
+			}
+			return;
+		}
+		long queuedIndex = queuedTasksCounter.getAndAdd(tasksToBeQueued.size());
+		for (TaskAbst<?, ?> task : tasksToBeQueued) {
+			task.queuedIndex = ++queuedIndex;
+			tasksQueue.put(task.queueKey = new QueueKey(task.priority, task.queuedIndex), task);
+		}
+		notifyTasksLauncher();
+		for (TaskAbst<?, ?> task : tasksToBeQueued) {
+			task.linkToCurrentTask();
+		}
+	}
+	
+	static CompletableFuture<?>[] toCompletableFutures(Collection<? extends TaskAbst<?, ?>> tasks) {
+		return tasks.stream().map(TaskAbst::getCompletableFuture).toArray(CompletableFuture[]::new);
+	}
+	
 	<E, T extends TaskAbst<E, T>> T addToQueue(T task, boolean skipCheck) {
+		return addToQueue(task, skipCheck, skipCheck);
+	}
+	
+	<E, T extends TaskAbst<E, T>> T addToQueue(T task, boolean skipCheck, boolean ignoreCapacity) {
 		Object[] canBeExecutedBag = null;
-		if (skipCheck || (Boolean)(canBeExecutedBag = canBeExecuted(task))[1]) {
+		if ((skipCheck || (Boolean)(canBeExecutedBag = canBeExecuted(task))[1]) &&
+			(skipCheck || !handOff(task)) && reserveTasksQueueSlot(task, ignoreCapacity)
+		) {
 			try {
-				tasksQueue.add(task);
-				synchronized(executableCollectionFillerMutex) {
-					executableCollectionFillerMutex.notifyAll();
+				task.queuedIndex = queuedTasksCounter.incrementAndGet();
+				if (!pushToWorkerTasksQueue(task)) {
+					enqueue(task);
 				}
 			} catch (Throwable exc) {
 				logError(exc);
@@ -260,6 +519,330 @@ public class QueuedTasksExecutor implements Component {
 		}
 		return canBeExecutedBag != null ? (T)canBeExecutedBag[0] : task;
 	}
+	
+	<E, T extends TaskAbst<E, T>> boolean handOff(T task) {
+		if (!directHandOffEnabled || fairScheduler != null || supended || terminated || virtualThreadSupplier != null || !tasksQueue.isEmpty() ||
+			(workStealingEnabled && workersTasksQueues.containsKey(java.lang.Thread.currentThread()))
+		) {
+			return false;
+		}
+		Thread executor = threadSupplier.get();
+		if (executor == null) {
+			return false;
+		}
+		tasksInExecution.add(task);
+		task.setExecutor(executor).start();
+		handedOffTasksCount.increment();
+		return true;
+	}
+	
+	<E, T extends TaskAbst<E, T>> boolean reserveTasksQueueSlot(T task, boolean ignoreCapacity) {
+		int capacity;
+		if (ignoreCapacity || (capacity = tasksQueueCapacity) < 0) {
+			queuedTasksCount.incrementAndGet();
+			return true;
+		}
+		while (true) {
+			int count = queuedTasksCount.get();
+			if (count < capacity) {
+				if (queuedTasksCount.compareAndSet(count, count + 1)) {
+					return true;
+				}
+				continue;
+			}
+			OverflowPolicy overflowPolicy = this.overflowPolicy;
+			if (overflowPolicy == OverflowPolicy.BLOCK) {
+				if (!waitForTasksQueueSlot(capacity)) {
+					return false;
+				}
+			} else if (overflowPolicy == OverflowPolicy.RUN_IN_CALLER_THREAD) {
+				tasksExecutedInCallerThreadCount.increment();
+				executeInline(task, java.lang.Thread.currentThread());
+				return false;
+			} else if (overflowPolicy == OverflowPolicy.REJECT) {
+				rejectedTasksCount.increment();
+				TaskStateException exception = new TaskStateException(task, "has been rejected because the tasks queue of " + name + " is full");
+				task.abort(exception);
+				return Throwables.throwException(exception);
+			} else if (!dropOldestLowPriorityTask(task.priority)) {
+				droppedTasksCount.increment();
+				task.abort(new TaskStateException(task, "has been dropped because the tasks queue of " + name + " is full"));
+				return false;
+			}
+		}
+	}
+	
+	boolean reserveTasksQueueSlots(int count) {
+		int capacity = tasksQueueCapacity;
+		if (capacity < 0) {
+			queuedTasksCount.addAndGet(count);
+			return true;
+		}
+		while (true) {
+			int queuedTasksCount = this.queuedTasksCount.get();
+			if (queuedTasksCount + count > capacity) {
+				return false;
+			}
+			if (this.queuedTasksCount.compareAndSet(queuedTasksCount, queuedTasksCount + count)) {
+				return true;
+			}
+		}
+	}
+	
+	boolean waitForTasksQueueSlot(int capacity) {
+		synchronized(tasksQueueSlotsMutex) {
+			++waitingProducersCount;
+			try {
+				while (queuedTasksCount.get() >= capacity && capacity == tasksQueueCapacity) {
+					if (terminated) {
+						return false;
+					}
+					tasksQueueSlotsMutex.wait();
+				}
+			} catch (InterruptedException exc) {
+				Throwables.throwException(exc);
+			} finally {
+				--waitingProducersCount;
+			}
+		}
+		return true;
+	}
+	
+	boolean dropOldestLowPriorityTask(int priority) {
+		Entry<QueueKey, TaskAbst<?, ?>> lowestPriorityEntry = tasksQueue.lastEntry();
+		if (lowestPriorityEntry == null || lowestPriorityEntry.getKey().priority > priority) {
+			return false;
+		}
+		Entry<QueueKey, TaskAbst<?, ?>> oldestLowPriorityEntry = tasksQueue.ceilingEntry(
+			new QueueKey(lowestPriorityEntry.getKey().priority, Long.MIN_VALUE)
+		);
+		if (oldestLowPriorityEntry == null) {
+			return false;
+		}
+		TaskAbst<?, ?> task = oldestLowPriorityEntry.getValue();
+		synchronized (task) {
+			if (!tasksQueue.remove(oldestLowPriorityEntry.getKey(), task)) {
+				return true;
+			}
+		}
+		onDequeued();
+		droppedTasksCount.increment();
+		task.abort(new TaskStateException(task, "has been dropped because the tasks queue of " + name + " is full"));
+		return true;
+	}
+	
+	void onDequeued() {
+		queuedTasksCount.decrementAndGet();
+		if (waitingProducersCount > 0) {
+			notifyTasksQueueSlotsWaiters();
+		}
+	}
+	
+	void notifyTasksQueueSlotsWaiters() {
+		synchronized(tasksQueueSlotsMutex) {
+			tasksQueueSlotsMutex.notifyAll();
+		}
+	}
+	
+	<E, T extends TaskAbst<E, T>> void enqueue(T task) {
+		tasksQueue.put(task.queueKey = new QueueKey(task.priority, task.queuedIndex), task);
+		notifyTasksLauncher();
+	}
+	
+	//The waiting flag is set before the launcher checks the queues, so a task queued before the check is found and one queued after it finds the flag set
+	void notifyTasksLauncher() {
+		if (tasksLauncherWaiting) {
+			synchronized(executableCollectionFillerMutex) {
+				executableCollectionFillerMutex.notifyAll();
+			}
+		}
+	}
+	
+	<E, T extends TaskAbst<E, T>> boolean pushToWorkerTasksQueue(T task) {
+		if (workStealingEnabled) {
+			java.lang.Thread currentThread = java.lang.Thread.currentThread();
+			Deque<TaskAbst<?, ?>> workerTasksQueue = workersTasksQueues.get(currentThread);
+			if (workerTasksQueue != null && task.priority == currentThread.getPriority()) {
+				workerTasksQueue.addFirst(task);
+				notifyTasksLauncher();
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	void execute(TaskAbst<?, ?> task, java.lang.Thread executor) {
+		FairScheduler fairScheduler = task.fairScheduler;
+		try {
+			if (workStealingEnabled) {
+				executeAsWorker(task, executor);
+			} else {
+				task.execute();
+			}
+		} finally {
+			if (fairScheduler != null) {
+				task.fairScheduler = null;
+				fairScheduler.release();
+			}
+		}
+	}
+	
+	void executeAsWorker(TaskAbst<?, ?> task, java.lang.Thread worker) {
+		Deque<TaskAbst<?, ?>> workerTasksQueue = new ConcurrentLinkedDeque<>();
+		workersTasksQueues.put(worker, workerTasksQueue);
+		try {
+			task.execute();
+			while ((task = pollFor(workerTasksQueue)) != null) {
+				tasksInExecution.add(task);
+				task.bindTo(worker, this).execute();
+			}
+		} finally {
+			workersTasksQueues.remove(worker);
+			while ((task = workerTasksQueue.pollLast()) != null) {
+				enqueue((TaskAbst)task);
+			}
+		}
+	}
+	
+	TaskAbst<?, ?> pollFor(Deque<TaskAbst<?, ?>> workerTasksQueue) {
+		if (supended || terminated) {
+			return null;
+		}
+		TaskAbst<?, ?> task = workerTasksQueue.pollFirst();
+		if (task == null && workStealingEnabled && (task = pollFirstQueuedTask()) == null) {
+			task = steal();
+		}
+		if (task != null) {
+			onDequeued();
+		}
+		return task;
+	}
+	
+	TaskAbst<?, ?> pollFirstQueuedTask() {
+		Entry<QueueKey, TaskAbst<?, ?>> queuedTaskEntry = tasksQueue.pollFirstEntry();
+		return queuedTaskEntry != null ? queuedTaskEntry.getValue() : null;
+	}
+	
+	boolean removeFromTasksQueue(TaskAbst<?, ?> task) {
+		QueueKey queueKey = task.queueKey;
+		return queueKey != null && tasksQueue.remove(queueKey, task);
+	}
+	
+	TaskAbst<?, ?> steal() {
+		for (Deque<TaskAbst<?, ?>> workerTasksQueue : workersTasksQueues.values()) {
+			TaskAbst<?, ?> task = workerTasksQueue.pollLast();
+			if (task != null) {
+				return task;
+			}
+		}
+		return null;
+	}
+	
+	<E, T extends TaskAbst<E, T>> boolean executeIfQueuedBy(T task, java.lang.Thread worker) {
+		Map<java.lang.Thread, Deque<TaskAbst<?, ?>>> workersTasksQueues = this.workersTasksQueues;
+		Deque<TaskAbst<?, ?>> workerTasksQueue;
+		if (workersTasksQueues != null && (workerTasksQueue = workersTasksQueues.get(worker)) != null &&
+			workerTasksQueue.removeFirstOccurrence(task)
+		) {
+			onDequeued();
+			executeInline(task, worker);
+			return true;
+		}
+		return false;
+	}
+	
+	void executeInline(TaskAbst<?, ?> task, java.lang.Thread executor) {
+		tasksInExecution.add(task);
+		task.executor = executor;
+		task.execute();
+	}
+	
+	boolean removeFromQueue(TaskAbst<?, ?> task) {
+		if (removeFromTasksQueue(task)) {
+			onDequeued();
+			return true;
+		}
+		for (Deque<TaskAbst<?, ?>> workerTasksQueue : workersTasksQueues.values()) {
+			if (workerTasksQueue.removeFirstOccurrence(task)) {
+				onDequeued();
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	boolean hasQueuedTasks() {
+		if (!tasksQueue.isEmpty()) {
+			return true;
+		}
+		for (Deque<TaskAbst<?, ?>> workerTasksQueue : workersTasksQueues.values()) {
+			if (!workerTasksQueue.isEmpty()) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	List<TaskAbst<?, ?>> getQueuedTasks() {
+		List<TaskAbst<?, ?>> queuedTasks = new ArrayList<>(tasksQueue.values());
+		for (Deque<TaskAbst<?, ?>> workerTasksQueue : workersTasksQueues.values()) {
+			queuedTasks.addAll(workerTasksQueue);
+		}
+		return queuedTasks;
+	}
+	
+	void scheduleExpiration(TaskAbst<?, ?> task, long time) {
+		TimerWheel timerWheel = getTimerWheel();
+		if (timerWheel == null || timerWheel.isClosed()) {
+			return;
+		}
+		TimerWheel.Job expirationJob = timerWheel.createJob(task::expire).setName(task + " expiration");
+		synchronized (task) {
+			if (task.finished || task.aborted) {
+				return;
+			}
+			task.expirationJob = expirationJob;
+		}
+		expirationJob.schedule(Math.max(time - System.currentTimeMillis(), 0));
+	}
+	
+	TimerWheel getTimerWheel() {
+		TimerWheel timerWheel = this.timerWheel;
+		if (timerWheel == null) {
+			synchronized (terminatingMutex) {
+				if ((timerWheel = this.timerWheel) == null && terminated == Boolean.FALSE) {
+					this.timerWheel = timerWheel = TimerWheel.create(
+						name + " - Timer wheel",
+						threadSupplier,
+						10, 512,
+						job -> createTask((ThrowingRunnable<?>)job::execute).setName(job.getName())
+							.changePriority(java.lang.Thread.MAX_PRIORITY).submit()
+					);
+				}
+			}
+		}
+		return timerWheel;
+	}
+	
+	void closeTimerWheel() {
+		TimerWheel timerWheel = this.timerWheel;
+		if (timerWheel != null) {
+			this.timerWheel = null;
+			timerWheel.close();
+		}
+	}
+	
+	<E, T extends TaskAbst<E, T>> boolean changeQueuedPriority(T task, int priority) {
+		synchronized (task) {
+			QueueKey queueKey = task.queueKey;
+			if (queueKey != null && queueKey.priority != priority && removeFromTasksQueue(task)) {
+				task.priority = priority;
+				enqueue(task);
+				return true;
+			}
+		}
+		return false;
+	}
 
 	<E, T extends TaskAbst<E, T>> Object[] canBeExecuted(T task) {
 		Object[] bag = new Object[]{task, true};
@@ -303,10 +886,10 @@ public class QueuedTasksExecutor implements Component {
 		}
 		if (!task.isStarted()) {
 			if (task.runOnlyOnce) {
-				for (TaskAbst<?, ?> queuedTask : tasksQueue) {
+				for (TaskAbst<?, ?> queuedTask : getQueuedTasks()) {
 					if (task.id.equals(queuedTask.id)) {
 						synchronized (queuedTask) {
-							if (tasksQueue.remove(queuedTask)) {
+							if (removeFromQueue(queuedTask)) {
 								if (!queuedTask.isStarted()) {
 									task.aborted = queuedTask.aborted = true;
 									queuedTask.clear();
@@ -325,7 +908,7 @@ public class QueuedTasksExecutor implements Component {
 				return task.aborted;
 			}
 			synchronized (task) {
-				if (task.aborted = tasksQueue.remove(task)) {
+				if (task.aborted = removeFromQueue(task)) {
 					task.notifyAll();
 					task.clear();
 					return task.aborted;
@@ -338,7 +921,7 @@ public class QueuedTasksExecutor implements Component {
 	public QueuedTasksExecutor waitForTasksEnding(int priority, boolean waitForNewAddedTasks, boolean ignoreDeadLocked) {
 		waitForTasksEnding(priority, ignoreDeadLocked);
 		if (waitForNewAddedTasks) {
-			while (!tasksInExecution.isEmpty() || !tasksQueue.isEmpty()) {
+			while (!tasksInExecution.isEmpty() || hasQueuedTasks()) {
 				waitForTasksEnding(priority, ignoreDeadLocked);
 			}
 		}
@@ -347,10 +930,10 @@ public class QueuedTasksExecutor implements Component {
 	
 	public QueuedTasksExecutor waitForTasksEnding(int priority, boolean ignoreDeadLocked) {
 		tasksLauncher.setPriority(priority);
-		tasksQueue.stream().forEach(executable -> executable.changePriority(priority)); 
-		if (!tasksQueue.isEmpty()) {
+		new ArrayList<>(tasksQueue.values()).forEach(executable -> executable.changePriority(priority));
+		if (hasQueuedTasks()) {
 			synchronized(executingFinishedWaiterMutex) {
-				if (!tasksQueue.isEmpty()) {
+				if (hasQueuedTasks()) {
 					try {
 						executingFinishedWaiterMutex.wait();
 					} catch (InterruptedException exc) {
@@ -367,7 +950,7 @@ public class QueuedTasksExecutor implements Component {
 	public QueuedTasksExecutor changePriority(int priority) {
 		this.defaultPriority = priority;
 		tasksLauncher.setPriority(priority);
-		tasksQueue.stream().forEach(executable -> executable.changePriority(priority));
+		new ArrayList<>(tasksQueue.values()).forEach(executable -> executable.changePriority(priority));
 		return this;
 	}
 	
@@ -399,7 +982,7 @@ public class QueuedTasksExecutor implements Component {
 		} else {
 			waitForTasksInExecutionEnding(priority, ignoreDeadLocked);
 			Task supendingTask = createSuspendingTask(priority);
-			changePriorityToAllTaskBeforeAndWaitThem(supendingTask.addToQueue(), priority, ignoreDeadLocked);
+			changePriorityToAllTaskBeforeAndWaitThem(addToQueue(supendingTask, false, true), priority, ignoreDeadLocked);
 			supendingTask.waitForFinish(ignoreDeadLocked);
 		}
 		tasksLauncher.setPriority(this.defaultPriority);
@@ -412,7 +995,7 @@ public class QueuedTasksExecutor implements Component {
 
 	void waitForTasksInExecutionEnding(int priority, boolean ignoreDeadLocked) {
 		tasksInExecution.stream().forEach(task -> {
-			Thread taskExecutor = task.executor;
+			java.lang.Thread taskExecutor = task.executor;
 			if (taskExecutor != null) {
 				taskExecutor.setPriority(priority);
 			}
@@ -423,21 +1006,12 @@ public class QueuedTasksExecutor implements Component {
 	}
 
 	<E, T extends TaskAbst<E, T>> void changePriorityToAllTaskBeforeAndWaitThem(T task, int priority, boolean ignoreDeadLocked) {
-		int taskIndex = tasksQueue.indexOf(task);
-		if (taskIndex != -1) {
-			Iterator<TaskAbst<?, ?>> taskIterator = tasksQueue.iterator();
-			int idx = 0;
-			while (taskIterator.hasNext()) {
-				TaskAbst<?, ?> currentIterated = taskIterator.next();
-				if (idx < taskIndex) {					
-					if (currentIterated != task) {
-						task.changePriority(priority);
-					} else {
-						break;
-					}
-				}
-				idx++;
+		QueueKey queueKey = task.queueKey;
+		if (queueKey != null && tasksQueue.get(queueKey) == task) {
+			for (TaskAbst<?, ?> queuedTask : new ArrayList<>(tasksQueue.headMap(queueKey).values())) {
+				queuedTask.changePriority(priority);
 			}
+			task.changePriority(priority);
 		}
 		waitForTasksInExecutionEnding(priority, ignoreDeadLocked);
 	}
@@ -455,7 +1029,7 @@ public class QueuedTasksExecutor implements Component {
 	}
 	
 	public boolean shutDown(boolean waitForTasksTermination) {
-		Collection<TaskAbst<?, ?>> executables = this.tasksQueue;
+		Map<QueueKey, TaskAbst<?, ?>> executables = this.tasksQueue;
 		if (waitForTasksTermination) {
 			suspend(false, true);
 		} else {
@@ -464,6 +1038,10 @@ public class QueuedTasksExecutor implements Component {
 		this.terminated = Boolean.TRUE;
 		logStatus();
 		executables.clear();
+		workersTasksQueues.values().forEach(Deque::clear);
+		queuedTasksCount.set(0);
+		notifyTasksQueueSlotsWaiters();
+		closeTimerWheel();
 		tasksInExecution.clear();
 		resumeFromSuspension();
 		if (tasksLauncher != null) {
@@ -482,7 +1060,7 @@ public class QueuedTasksExecutor implements Component {
 	}
 	
 	public void logStatus() {
-		List<TaskAbst<?, ?>> tasks = new ArrayList<>(tasksQueue);
+		List<TaskAbst<?, ?>> tasks = getQueuedTasks();
 		tasks.addAll(this.tasksInExecution);
 		logStatus(this.executedTasksCount, tasks);
 	}
@@ -508,7 +1086,7 @@ public class QueuedTasksExecutor implements Component {
 	
 	public String getInfoAsString() {
 		StringBuffer log = new StringBuffer("");
-		Collection<TaskAbst<?, ?>> tasksQueue = this.tasksQueue;
+		Collection<TaskAbst<?, ?>> tasksQueue = getQueuedTasks();
 		if (!tasksQueue.isEmpty()) {
 			log.append("\n\n");
 			log.append(Strings.compile("{} - Tasks to be executed:", tasksLauncher));
@@ -543,6 +1121,7 @@ public class QueuedTasksExecutor implements Component {
 		//queueConsumer = null;
 		threadSupplier = null;
 		tasksQueue = null;
+		workersTasksQueues = null;
 		tasksInExecution = null;
 		initializer = null;
 		terminated = null;
@@ -555,7 +1134,140 @@ public class QueuedTasksExecutor implements Component {
 		name = null;		
 	}
 	
-	public static abstract class TaskAbst<E, T extends TaskAbst<E, T>> implements ManagedLogger {
+	public static interface CancellationToken {
+		public static final CancellationToken NONE = () -> false;
+		
+		public boolean isCancellationRequested();
+		
+		public default void throwIfCancellationRequested() {
+			if (isCancellationRequested()) {
+				Throwables.throwException(new java.util.concurrent.CancellationException());
+			}
+		}
+		
+		public static CancellationToken current() {
+			TaskAbst<?, ?> task = currentTask.get();
+			return task != null ? task : NONE;
+		}
+	}
+	
+	public static enum OverflowPolicy {
+		BLOCK,
+		RUN_IN_CALLER_THREAD,
+		REJECT,
+		DROP_OLDEST_LOW_PRIORITY_TASK;
+		
+		public static OverflowPolicy forName(String name) {
+			return valueOf(name.trim().toUpperCase().replace(' ', '_').replace('-', '_'));
+		}
+	}
+	
+	static class QueueKey implements Comparable<QueueKey> {
+		final int priority;
+		final long index;
+		
+		QueueKey(int priority, long index) {
+			this.priority = priority;
+			this.index = index;
+		}
+		
+		@Override
+		public int compareTo(QueueKey queueKey) {
+			int result = Integer.compare(queueKey.priority, priority);
+			return result != 0 ? result : Long.compare(index, queueKey.index);
+		}
+	}
+	
+	static class StackTraceCapturer {
+		private final static Object stackWalker;
+		private final static MethodHandle walkMethod;
+		private final static MethodHandle toStackTraceElementMethod;
+		private final static Object javaLangAccess;
+		private final static MethodHandle getStackTraceDepthMethod;
+		private final static MethodHandle getStackTraceElementMethod;
+		
+		static {
+			Object walker = null;
+			MethodHandle walk = null;
+			MethodHandle toStackTraceElement = null;
+			Object langAccess = null;
+			MethodHandle getStackTraceDepth = null;
+			MethodHandle getStackTraceElement = null;
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.lookup();
+				Class<?> stackWalkerClass = Class.forName("java.lang.StackWalker");
+				walker = lookup.findStatic(stackWalkerClass, "getInstance", MethodType.methodType(stackWalkerClass)).invoke();
+				walk = lookup.findVirtual(stackWalkerClass, "walk", MethodType.methodType(Object.class, Function.class));
+				toStackTraceElement = lookup.findVirtual(
+					Class.forName("java.lang.StackWalker$StackFrame"), "toStackTraceElement", MethodType.methodType(StackTraceElement.class)
+				);
+			} catch (Throwable exc) {
+				walker = walk = toStackTraceElement = null;
+				try {
+					MethodHandles.Lookup lookup = MethodHandles.lookup();
+					Class<?> javaLangAccessClass = Class.forName("sun.misc.JavaLangAccess");
+					langAccess = lookup.findStatic(
+						Class.forName("sun.misc.SharedSecrets"), "getJavaLangAccess", MethodType.methodType(javaLangAccessClass)
+					).invoke();
+					getStackTraceDepth = lookup.findVirtual(
+						javaLangAccessClass, "getStackTraceDepth", MethodType.methodType(int.class, Throwable.class)
+					);
+					getStackTraceElement = lookup.findVirtual(
+						javaLangAccessClass, "getStackTraceElement", MethodType.methodType(StackTraceElement.class, Throwable.class, int.class)
+					);
+				} catch (Throwable excTwo) {
+					langAccess = getStackTraceDepth = getStackTraceElement = null;
+				}
+			}
+			stackWalker = walker;
+			walkMethod = walk;
+			toStackTraceElementMethod = toStackTraceElement;
+			javaLangAccess = langAccess;
+			getStackTraceDepthMethod = getStackTraceDepth;
+			getStackTraceElementMethod = getStackTraceElement;
+		}
+		
+		static StackTraceElement[] capture(int maxFrames) {
+			if (maxFrames >= 0 && walkMethod == null && getStackTraceElementMethod != null) {
+				return captureFromThrowable(maxFrames);
+			}
+			if (maxFrames < 0 || walkMethod == null) {
+				StackTraceElement[] stackTrace = java.lang.Thread.currentThread().getStackTrace();
+				return maxFrames < 0 || stackTrace.length <= maxFrames + 1 ?
+					stackTrace : Arrays.copyOf(stackTrace, maxFrames + 1);
+			}
+			Function<Stream<Object>, StackTraceElement[]> framesConverter = frames -> frames.limit(maxFrames).map(frame -> {
+				try {
+					return (StackTraceElement)toStackTraceElementMethod.invoke(frame);
+				} catch (Throwable exc) {
+					return Throwables.throwException(exc);
+				}
+			}).toArray(StackTraceElement[]::new);
+			try {
+				return (StackTraceElement[])walkMethod.invoke(stackWalker, framesConverter);
+			} catch (Throwable exc) {
+				return Throwables.throwException(exc);
+			}
+		}
+		
+		//On JDK 8 the frames are converted one by one from the backtrace of a Throwable, without building the whole stack trace
+		static StackTraceElement[] captureFromThrowable(int maxFrames) {
+			Throwable throwable = new Throwable();
+			try {
+				StackTraceElement[] stackTrace = new StackTraceElement[
+					Math.min((int)getStackTraceDepthMethod.invoke(javaLangAccess, throwable), maxFrames)
+				];
+				for (int i = 0; i < stackTrace.length; i++) {
+					stackTrace[i] = (StackTraceElement)getStackTraceElementMethod.invoke(javaLangAccess, throwable, i);
+				}
+				return stackTrace;
+			} catch (Throwable exc) {
+				return Throwables.throwException(exc);
+			}
+		}
+	}
+	
+	public static abstract class TaskAbst<E, T extends TaskAbst<E, T>> implements CancellationToken, ManagedLogger {
 		
 		String name;
 		Long executorIndex;
@@ -566,22 +1278,32 @@ public class QueuedTasksExecutor implements Component {
 		volatile boolean runOnlyOnce;		
 		volatile String id;
 		volatile int priority;
+		volatile QueueKey queueKey;
+		volatile long queuedIndex;
 		volatile Long startTime;
 		volatile boolean submitted;
 		volatile boolean aborted;
 		volatile boolean finished;
 		volatile boolean queueConsumerUnlockingRequested;
+		volatile boolean cancellationRequested;
+		volatile long timeout;
+		volatile Long deadline;
+		TimerWheel.Job expirationJob;
+		TaskAbst<?, ?> parent;
+		Set<TaskAbst<?, ?>> children;
 		E executable;		
-		Thread executor;
+		java.lang.Thread executor;
+		CompletableFuture<Object> completableFuture;
 		Throwable exc;
 		ThrowingBiConsumer<T, Throwable, Throwable> exceptionHandler;
 		QueuedTasksExecutor queuedTasksExecutor;
+		FairScheduler fairScheduler;
+		long submissionNanoTime;
+		long startNanoTime;
 		
-		public TaskAbst(E executable, boolean creationTracking) {
+		public TaskAbst(E executable, StackTraceElement[] stackTraceOnCreation) {
 			this.executable = executable;
-			if (creationTracking) {
-				stackTraceOnCreation = java.lang.Thread.currentThread().getStackTrace();
-			}
+			this.stackTraceOnCreation = stackTraceOnCreation;
 		}
 		
 		T start() {
@@ -600,7 +1322,7 @@ public class QueuedTasksExecutor implements Component {
 						)
 					);
 				} else {
-					logWarn("Tasks creation tracking was disabled when {} was created", this);
+					logWarn("Tasks creation tracking was disabled or not sampled when {} was created", this);
 				}
 			}
 			return creatorInfos;
@@ -642,6 +1364,112 @@ public class QueuedTasksExecutor implements Component {
 			return aborted;
 		}
 		
+		public T setTimeout(long timeout) {
+			if (isStarted()) {
+				Throwables.throwException(new TaskStateException(this, "is started"));
+			}
+			this.timeout = timeout;
+			return (T)this;
+		}
+		
+		public T setDeadline(long deadline) {
+			if (isSubmitted()) {
+				Throwables.throwException(new TaskStateException(this, "is submitted"));
+			}
+			this.deadline = deadline;
+			return (T)this;
+		}
+		
+		public Long getDeadline() {
+			return deadline;
+		}
+		
+		@Override
+		public boolean isCancellationRequested() {
+			return cancellationRequested;
+		}
+		
+		@Override
+		public void throwIfCancellationRequested() {
+			if (cancellationRequested) {
+				Throwable exc = this.exc;
+				Throwables.throwException(exc != null ? exc : new TaskStateException(this, "has been cancelled"));
+			}
+		}
+		
+		public T cancel() {
+			cancel(new TaskStateException(this, "has been cancelled"));
+			return (T)this;
+		}
+		
+		void expire() {
+			if (!finished && !aborted) {
+				cancel(new TaskStateException(this, "has exceeded its deadline"));
+			}
+		}
+		
+		boolean cancel(Throwable cause) {
+			synchronized (this) {
+				if (finished || aborted || cancellationRequested) {
+					return false;
+				}
+				cancellationRequested = true;
+				exc = cause;
+			}
+			cancelChildren();
+			if (!submitted) {
+				abort(cause);
+				return true;
+			}
+			if (!isStarted() && getQueuedTasksExecutor().abort((T)this)) {
+				return true;
+			}
+			QueuedTasksExecutor queuedTasksExecutor = this.queuedTasksExecutor;
+			CompletableFuture<Object> completableFuture;
+			synchronized (this) {
+				aborted = true;
+				java.lang.Thread executor = this.executor;
+				if (!finished && executor != null && executor != java.lang.Thread.currentThread()) {
+					executor.interrupt();
+				}
+				completableFuture = this.completableFuture;
+				notifyAll();
+			}
+			if (queuedTasksExecutor != null) {
+				queuedTasksExecutor.tasksInExecution.remove(this);
+			}
+			if (completableFuture != null) {
+				complete(completableFuture);
+			}
+			return true;
+		}
+		
+		void cancelChildren() {
+			Set<TaskAbst<?, ?>> children = this.children;
+			if (children != null) {
+				for (TaskAbst<?, ?> child : children) {
+					child.cancel(new TaskStateException(child, "has been cancelled because its parent " + this + " has been cancelled"));
+				}
+			}
+		}
+		
+		void addChild(TaskAbst<?, ?> child) {
+			Set<TaskAbst<?, ?>> children;
+			synchronized (this) {
+				if (finished) {
+					return;
+				}
+				if ((children = this.children) == null) {
+					children = this.children = ConcurrentHashMap.newKeySet();
+				}
+			}
+			child.parent = this;
+			children.add(child);
+			if (cancellationRequested) {
+				child.cancel(new TaskStateException(child, "has been cancelled because its parent " + this + " has been cancelled"));
+			}
+		}
+		
 		public boolean isSubmitted() {
 			return submitted;
 		}
@@ -690,6 +1518,7 @@ public class QueuedTasksExecutor implements Component {
 								if (isAborted()) {
 									Throwables.throwException(new TaskStateException(this, "is aborted"));
 								}
+								Synchronizer.checkPinning(getClass().getName() + " monitor");
 								wait();
 								return true;
 							} catch (InterruptedException exc) {
@@ -719,6 +1548,9 @@ public class QueuedTasksExecutor implements Component {
 				return false;
 			}
 			if (isSubmitted()) {
+				if (!isStarted() && getQueuedTasksExecutor().executeIfQueuedBy((T)this, currentThread)) {
+					return false;
+				}
 				if (!hasFinished()) {
 					synchronized (this) {
 						if (!hasFinished()) {
@@ -730,8 +1562,12 @@ public class QueuedTasksExecutor implements Component {
 									Throwables.throwException(new TaskStateException(this, "could be dead locked"));
 								}
 								if (isAborted()) {
+									if (cancellationRequested) {
+										return false;
+									}
 									Throwables.throwException(new TaskStateException(this, "is aborted"));
 								}
+								Synchronizer.checkPinning(getClass().getName() + " monitor");
 								wait();
 								return true;
 							} catch (InterruptedException exc) {
@@ -747,6 +1583,10 @@ public class QueuedTasksExecutor implements Component {
 		}
 		
 		void execute() {
+			Long deadline = this.deadline;
+			if (deadline != null && deadline <= System.currentTimeMillis()) {
+				expire();
+			}
 			synchronized (this) {
 				if (aborted) {
 					notifyAll();
@@ -759,10 +1599,15 @@ public class QueuedTasksExecutor implements Component {
 			synchronized (this) {
 				notifyAll();
 			}
+			TaskAbst<?, ?> callerTask = currentTask.get();
+			currentTask.set(this);
 			try {
 				try {
 					execute0();					
 				} catch (Throwable exc) {
+					if (cancellationRequested) {
+						throw exc;
+					}
 					this.exc = exc;
 					if (exceptionHandler != null) {
 						exceptionHandler.accept((T)this, exc);
@@ -771,28 +1616,39 @@ public class QueuedTasksExecutor implements Component {
 					}
 				}
 			} catch (Throwable exc) {
-				logException(exc);
+				if (!cancellationRequested) {
+					logException(exc);
+				} else {
+					logWarn("{} has been cancelled: {}", this, this.exc.getMessage());
+				}
 			} finally {
+				if (callerTask != null) {
+					currentTask.set(callerTask);
+				} else {
+					currentTask.remove();
+				}
+				ExecutionStatistics statistics;
+				if (startNanoTime != 0 && (statistics = queuedTasksExecutor.statistics) != null) {
+					statistics.onExecuted((System.nanoTime() - startNanoTime) / 1000, this.exc != null);
+				}
 				markAsFinished();
+				if (cancellationRequested) {
+					java.lang.Thread.interrupted();
+				}
 			}
 		}
 		
 		String getInfoAsString() {
-			if (this.getCreatorInfos() != null) {
-				Thread executor = this.executor;
-				return Strings.compile("\n\tTask status: {} {} \n\tcreated by: {}",
-					Strings.compile("\n\t\tpriority: {}\n\t\tstarted: {}\n\t\taborted: {}\n\t\tfinished: {}", priority, isStarted(), isAborted(), hasFinished()),
-					executor != null ? "\n\t" + executor + Strings.from(executor.getStackTrace(),2) : "",
-					Strings.from(this.getCreatorInfos(), 2)
-				);
-			}
-			return "";
+			java.lang.Thread executor = this.executor;
+			return Strings.compile("\n\tTask status: {} {} \n\tcreated by: {}",
+				Strings.compile("\n\t\tpriority: {}\n\t\tstarted: {}\n\t\taborted: {}\n\t\tfinished: {}", priority, isStarted(), isAborted(), hasFinished()),
+				executor != null ? "\n\t" + executor + Strings.from(executor.getStackTrace(),2) : "",
+				stackTraceOnCreation != null ? Strings.from(this.getCreatorInfos(), 2) : "(not tracked)"
+			);
 		}
 		
 		void logInfo() {
-			if (this.getCreatorInfos() != null) {
-				logInfo(getInfoAsString());
-			}			
+			logInfo(getInfoAsString());
 		}
 		
 		private void logException(Throwable exc) {
@@ -802,7 +1658,7 @@ public class QueuedTasksExecutor implements Component {
 				exc.toString(),
 				exc.getMessage(),
 				Strings.from(exc.getStackTrace()),
-				this.getCreatorInfos() != null ?
+				stackTraceOnCreation != null ?
 					"\nthat was created:" + Strings.from(this.getCreatorInfos())
 					: "" 
 			));
@@ -810,14 +1666,106 @@ public class QueuedTasksExecutor implements Component {
 		
 		void clear() {
 			remove();
+			TimerWheel.Job expirationJob = this.expirationJob;
+			if (expirationJob != null) {
+				this.expirationJob = null;
+				expirationJob.cancel();
+			}
+			TaskAbst<?, ?> parent = this.parent;
+			if (parent != null) {
+				this.parent = null;
+				Set<TaskAbst<?, ?>> siblings = parent.children;
+				if (siblings != null) {
+					siblings.remove(this);
+				}
+			}
+			children = null;
 			executable = null;
 			executor = null;
 			queuedTasksExecutor = null;
+			CompletableFuture<Object> completableFuture;
+			synchronized (this) {
+				completableFuture = this.completableFuture;
+			}
+			if (completableFuture != null) {
+				complete(completableFuture);
+			}
+		}
+		
+		CompletableFuture<Object> getCompletableFuture() {
+			if (completableFuture == null) {
+				synchronized (this) {
+					if (completableFuture == null) {
+						CompletableFuture<Object> completableFuture = new CompletableFuture<>();
+						if (finished || aborted) {
+							complete(completableFuture);
+						}
+						this.completableFuture = completableFuture;
+					}
+				}
+			}
+			return completableFuture;
+		}
+		
+		void complete(CompletableFuture<Object> completableFuture) {
+			Throwable failure = getFailure();
+			if (failure != null) {
+				completableFuture.completeExceptionally(failure);
+			} else {
+				completableFuture.complete(getResult());
+			}
+		}
+		
+		Throwable getFailure() {
+			if (aborted && exc == null) {
+				return new TaskStateException(this, "is aborted");
+			}
+			return exc;
+		}
+		
+		Object getResult() {
+			return null;
+		}
+		
+		T submitAfter(CompletionStage<?> completionStage, boolean onlyIfCompletedNormally) {
+			synchronized(this) {
+				if (submitted) {
+					Throwables.throwException(new TaskStateException(this, "is already submitted"));
+				}
+				submitted = true;
+			}
+			completionStage.whenComplete((result, exc) -> {
+				if (exc != null && onlyIfCompletedNormally) {
+					abort(exc instanceof CompletionException && exc.getCause() != null ? exc.getCause() : exc);
+				} else {
+					addToQueue();
+				}
+			});
+			return (T)this;
+		}
+		
+		void abort(Throwable cause) {
+			synchronized (this) {
+				aborted = true;
+				exc = cause;
+				notifyAll();
+			}
+			clear();
+		}
+		
+		public Task thenRun(ThrowingRunnable<? extends Throwable> executable) {
+			return getQueuedTasksExecutor().createTask(executable).submitAfter(getCompletableFuture(), true);
+		}
+		
+		public Task whenFinished(ThrowingConsumer<Throwable, ? extends Throwable> executable) {
+			return getQueuedTasksExecutor().createTask((ThrowingRunnable<? extends Throwable>)() ->
+				executable.accept(getFailure())
+			).submitAfter(getCompletableFuture(), false);
 		}
 	
 		void markAsFinished() {
-			finished = true;
 			synchronized(this) {
+				finished = true;
 				queuedTasksExecutor.tasksInExecution.remove(this);
 				++queuedTasksExecutor.executedTasksCount;
 				notifyAll();	
@@ -828,9 +1776,22 @@ public class QueuedTasksExecutor implements Component {
 		abstract void execute0() throws Throwable;
 		
 		T setExecutor(Thread thread) {
-			executor = thread.setExecutable(thr -> this.execute());
-			executor.setPriority(this.priority);
 			QueuedTasksExecutor queuedTasksExecutor = getQueuedTasksExecutor();
+			thread.setExecutable(thr -> queuedTasksExecutor.execute(this, thr));
+			return bindTo(thread, queuedTasksExecutor);
+		}
+		
+		T setExecutor(Thread.VirtualSupplier virtualThreadSupplier) {
+			QueuedTasksExecutor queuedTasksExecutor = getQueuedTasksExecutor();
+			return bindTo(
+				virtualThreadSupplier.createThread(() -> queuedTasksExecutor.execute(this, java.lang.Thread.currentThread())),
+				queuedTasksExecutor
+			);
+		}
+		
+		T bindTo(java.lang.Thread thread, QueuedTasksExecutor queuedTasksExecutor) {
+			executor = thread;
+			executor.setPriority(this.priority);
 			if (name != null) {
 				executor.setName(queuedTasksExecutor.name + " - " + name);
 			} else {				;
@@ -840,6 +1801,12 @@ public class QueuedTasksExecutor implements Component {
 		}
 		
 		public T changePriority(int priority) {
+			if (submitted && !isStarted()) {
+				QueuedTasksExecutor queuedTasksExecutor = getQueuedTasksExecutor();
+				if (queuedTasksExecutor.tasksQueue != null && queuedTasksExecutor.changeQueuedPriority((T)this, priority)) {
+					return (T)this;
+				}
+			}
 			this.priority = priority;
 			if (executor != null) {
 				executor.setPriority(this.priority);
@@ -860,6 +1827,13 @@ public class QueuedTasksExecutor implements Component {
 		}
 		
 		public final T submit() {
+			markAsSubmitted();
+			T task = addToQueue();
+			linkToCurrentTask();
+			return task;
+		}
+		
+		void markAsSubmitted() {
 			if (aborted) {
 				Throwables.throwException(new TaskStateException(this, "is aborted"));
 			}
@@ -874,7 +1848,22 @@ public class QueuedTasksExecutor implements Component {
 			} else {
 				Throwables.throwException(new TaskStateException(this, "is already submitted"));
 			}
-			return addToQueue();
+			Long deadline = this.deadline;
+			if (deadline != null) {
+				getQueuedTasksExecutor().scheduleExpiration(this, deadline);
+			}
+			ExecutionStatistics statistics = getQueuedTasksExecutor().statistics;
+			if (statistics != null) {
+				statistics.onSubmitted();
+				submissionNanoTime = System.nanoTime();
+			}
+		}
+		
+		void linkToCurrentTask() {
+			TaskAbst<?, ?> parent = currentTask.get();
+			if (parent != null && parent != this) {
+				parent.addChild(this);
+			}
 		}
 		
 		T addToQueue() {
@@ -884,7 +1873,18 @@ public class QueuedTasksExecutor implements Component {
 		void preparingToExecute() {
 			queuedTasksExecutor = getQueuedTasksExecutor();
 			startTime = System.currentTimeMillis();
-			queuedTasksExecutor.tasksInExecution.add(this);				
+			queuedTasksExecutor.tasksInExecution.add(this);
+			ExecutionStatistics statistics = queuedTasksExecutor.statistics;
+			if (statistics != null) {
+				startNanoTime = System.nanoTime();
+				if (submissionNanoTime != 0) {
+					statistics.queueWaitTime.record((startNanoTime - submissionNanoTime) / 1000);
+				}
+			}
+			long timeout = this.timeout;
+			if (timeout > 0) {
+				queuedTasksExecutor.scheduleExpiration(this, startTime + timeout);
+			}
 		}
 		
 		public T abortOrWaitForFinish() {
@@ -910,8 +1910,8 @@ public class QueuedTasksExecutor implements Component {
 	
 	public static abstract class Task extends TaskAbst<ThrowingRunnable<? extends Throwable>, Task> {
 		
-		Task(ThrowingRunnable<? extends Throwable> executable, boolean creationTracking) {
-			super(executable, creationTracking);
+		Task(ThrowingRunnable<? extends Throwable> executable, StackTraceElement[] stackTraceOnCreation) {
+			super(executable, stackTraceOnCreation);
 		}
 		
 		@Override
@@ -919,13 +1919,17 @@ public class QueuedTasksExecutor implements Component {
 			this.executable.run();			
 		}
 		
+		public CompletableFuture<Void> toCompletableFuture() {
+			return getCompletableFuture().thenApply(result -> null);
+		}
+		
 	}
 	
 	public static abstract class ProducerTask<T> extends TaskAbst<ThrowingSupplier<T, ? extends Throwable>, ProducerTask<T>> {
 		private T result;
 		
-		ProducerTask(ThrowingSupplier<T, ? extends Throwable> executable, boolean creationTracking) {
-			super(executable, creationTracking);
+		ProducerTask(ThrowingSupplier<T, ? extends Throwable> executable, StackTraceElement[] stackTraceOnCreation) {
+			super(executable, stackTraceOnCreation);
 		}		
 		
 		@Override
@@ -940,6 +1944,7 @@ public class QueuedTasksExecutor implements Component {
 		
 		public T join(boolean ignoreDeadLocked) {
 			waitForFinish(ignoreDeadLocked);
+			throwIfCancellationRequested();
 			return result;
 		}
 		
@@ -947,12 +1952,111 @@ public class QueuedTasksExecutor implements Component {
 			return result;
 		}
 		
+		@Override
+		Object getResult() {
+			return result;
+		}
+		
+		public CompletableFuture<T> toCompletableFuture() {
+			return getCompletableFuture().thenApply(result -> (T)result);
+		}
+		
+		public <R> ProducerTask<R> thenApply(ThrowingFunction<? super T, ? extends R, ? extends Throwable> function) {
+			return getQueuedTasksExecutor().createTask((ThrowingSupplier<R, ? extends Throwable>)() ->
+				function.apply(result)
+			).submitAfter(getCompletableFuture(), true);
+		}
+		
+		public Task thenAccept(ThrowingConsumer<? super T, ? extends Throwable> consumer) {
+			return getQueuedTasksExecutor().createTask((ThrowingRunnable<? extends Throwable>)() ->
+				consumer.accept(result)
+			).submitAfter(getCompletableFuture(), true);
+		}
+		
+		public ProducerTask<T> exceptionally(ThrowingFunction<Throwable, ? extends T, ? extends Throwable> function) {
+			return getQueuedTasksExecutor().createTask((ThrowingSupplier<T, ? extends Throwable>)() -> {
+				Throwable failure = getFailure();
+				return failure != null ? function.apply(failure) : result;
+			}).submitAfter(getCompletableFuture(), false);
+		}
+		
+	}
+	
+	public static class Batch {
+		List<TaskAbst<?, ?>> tasks;
+		
+		Batch(Collection<? extends TaskAbst<?, ?>> tasks) {
+			this.tasks = Collections.unmodifiableList(new ArrayList<>(tasks));
+		}
+		
+		public List<TaskAbst<?, ?>> getTasks() {
+			return tasks;
+		}
+		
+		public Batch waitForFinish() {
+			for (TaskAbst<?, ?> task : tasks) {
+				task.waitForFinish();
+			}
+			return this;
+		}
+		
+		public Batch join() {
+			waitForFinish();
+			List<Throwable> exceptions = getExceptions();
+			if (!exceptions.isEmpty()) {
+				CompletionException exception = new CompletionException(
+					exceptions.size() + " of " + tasks.size() + " tasks have failed", exceptions.get(0)
+				);
+				for (int i = 1; i < exceptions.size(); i++) {
+					exception.addSuppressed(exceptions.get(i));
+				}
+				Throwables.throwException(exception);
+			}
+			return this;
+		}
+		
+		public List<Throwable> getExceptions() {
+			List<Throwable> exceptions = new ArrayList<>();
+			for (TaskAbst<?, ?> task : tasks) {
+				Throwable exception = task.getException();
+				if (exception != null) {
+					exceptions.add(exception);
+				}
+			}
+			return exceptions;
+		}
+		
+		public int cancel() {
+			int cancelledTasksCount = 0;
+			for (TaskAbst<?, ?> task : tasks) {
+				if (task.cancel(new TaskStateException(task, "has been cancelled"))) {
+					++cancelledTasksCount;
+				}
+			}
+			return cancelledTasksCount;
+		}
+		
+		public boolean hasFinished() {
+			for (TaskAbst<?, ?> task : tasks) {
+				if (!task.hasFinished() && !task.isAborted()) {
+					return false;
+				}
+			}
+			return true;
+		}
+		
+		public CompletableFuture<Void> getCompletableFuture() {
+			return CompletableFuture.allOf(toCompletableFutures(tasks));
+		}
+		
 	}
 	
 	public static class Group implements ManagedLogger{
 		String name;
 		Map<String, QueuedTasksExecutor> queuedTasksExecutors;
 		TasksMonitorer allTasksMonitorer;
+		TimerWheel timerWheel;
+		TimerWheel.Job statisticsLogger;
 		
 		Group(String name, 
 			Thread.Supplier threadSupplierForHighPriorityTasksExecutor,
@@ -986,6 +2090,12 @@ public class QueuedTasksExecutor implements Component {
 					java.lang.Thread.MIN_PRIORITY, isDaemon
 				)
 			);
+			timerWheel = TimerWheel.create(
+				name + " - Timer wheel",
+				threadSupplierForHighPriorityTasksExecutor,
+				10, 512,
+				job -> createTask((ThrowingRunnable<?>)job::execute, job.getPriority()).setName(job.getName()).submit()
+			);
 		}
 		
 		public static Group create(
@@ -1096,12 +2206,47 @@ public class QueuedTasksExecutor implements Component {
 			return getByPriority(priority).createTask(executable);
 		}
 		
+		public List<Task> createTasks(Collection<? extends ThrowingRunnable<? extends Throwable>> executables) {
+			return createTasks(executables, java.lang.Thread.currentThread().getPriority());
+		}
+		
+		public List<Task> createTasks(Collection<? extends ThrowingRunnable<? extends Throwable>> executables, int priority) {
+			return getByPriority(priority).createTasks(executables);
+		}
+		
+		public Batch submitAll(Collection<? extends TaskAbst<?, ?>> tasks) {
+			Map<QueuedTasksExecutor, List<TaskAbst<?, ?>>> tasksForExecutor = new HashMap<>();
+			for (TaskAbst<?, ?> task : tasks) {
+				tasksForExecutor.computeIfAbsent(task.getQueuedTasksExecutor(), queuedTasksExecutor -> new ArrayList<>()).add(task);
+			}
+			for (Entry<QueuedTasksExecutor, List<TaskAbst<?, ?>>> tasksForExecutorBox : tasksForExecutor.entrySet()) {
+				tasksForExecutorBox.getKey().addAllToQueue(tasksForExecutorBox.getValue());
+			}
+			return new Batch(tasks);
+		}
+		
+		public TimerWheel.Job createJob(ThrowingRunnable<? extends Throwable> executable) {
+			return timerWheel.createJob(executable);
+		}
+		
+		public TimerWheel.Job schedule(ThrowingRunnable<? extends Throwable> executable, long delay) {
+			return createJob(executable).schedule(delay);
+		}
+		
+		public TimerWheel.Job scheduleAtFixedRate(ThrowingRunnable<? extends Throwable> executable, long initialDelay, long period) {
+			return createJob(executable).scheduleAtFixedRate(initialDelay, period);
+		}
+		
+		public TimerWheel.Job scheduleWithFixedDelay(ThrowingRunnable<? extends Throwable> executable, long initialDelay, long delay) {
+			return createJob(executable).scheduleWithFixedDelay(initialDelay, delay);
+		}
+		
 		QueuedTasksExecutor createQueuedTasksExecutor(String executorName, Thread.Supplier threadSupplier, int priority, boolean isDaemon) {
 			return new QueuedTasksExecutor(executorName, threadSupplier, priority, isDaemon) {
 				
 				@Override
 				<T> Function<ThrowingSupplier<T, ? extends Throwable>, QueuedTasksExecutor.ProducerTask<T>> getProducerTaskSupplier() {
-					return executable -> new QueuedTasksExecutor.ProducerTask<T>(executable, taskCreationTrackingEnabled) {
+					return executable -> new QueuedTasksExecutor.ProducerTask<T>(executable, retrieveStackTraceOnCreation()) {
 						
 						@Override
 						QueuedTasksExecutor getQueuedTasksExecutor() {
@@ -1125,7 +2270,7 @@ public class QueuedTasksExecutor implements Component {
 				
 				@Override
 				<T> Function<ThrowingRunnable<? extends Throwable> , QueuedTasksExecutor.Task> getTaskSupplier() {
-					return executable -> new QueuedTasksExecutor.Task(executable, taskCreationTrackingEnabled) {
+					return executable -> new QueuedTasksExecutor.Task(executable, retrieveStackTraceOnCreation()) {
 						
 						@Override
 						QueuedTasksExecutor getQueuedTasksExecutor() {
@@ -1146,12 +2291,17 @@ public class QueuedTasksExecutor implements Component {
 					};
 				}
 
+				@Override
+				TimerWheel getTimerWheel() {
+					return Group.this.timerWheel;
+				}
+				
 				@Override
 				public QueuedTasksExecutor waitForTasksEnding(int priority, boolean ignoreDeadLocked) {
 					if (priority == defaultPriority) {
-						if (!tasksQueue.isEmpty()) {
+						if (hasQueuedTasks()) {
 							synchronized(executingFinishedWaiterMutex) {
-								if (!tasksQueue.isEmpty()) {
+								if (hasQueuedTasks()) {
 									try {
 										executingFinishedWaiterMutex.wait();
 									} catch (InterruptedException exc) {
@@ -1166,9 +2316,9 @@ public class QueuedTasksExecutor implements Component {
 							task.waitForFinish(ignoreDeadLocked);
 						});
 					} else {	
-						tasksQueue.stream().forEach(executable ->
+						new ArrayList<>(tasksQueue.values()).forEach(executable ->
 							executable.changePriority(priority)
-						); 
+						);
 						waitForTasksInExecutionEnding(priority, ignoreDeadLocked);				
 					}
 					return this;
@@ -1191,8 +2341,14 @@ public class QueuedTasksExecutor implements Component {
 			int oldPriority = task.priority;
 			int newPriority = checkAndCorrectPriority(priority);
 			if (oldPriority != priority) {
+				QueuedTasksExecutor oldQueuedTasksExecutor = getByPriority(oldPriority);
+				if (oldQueuedTasksExecutor == getByPriority(newPriority)) {
+					oldQueuedTasksExecutor.changeQueuedPriority(task, newPriority);
+					return this;
+				}
 				synchronized (task) {
-					if (getByPriority(oldPriority).tasksQueue.remove(task)) {
+					if (oldQueuedTasksExecutor.removeFromTasksQueue(task)) {
+						oldQueuedTasksExecutor.onDequeued();
 						task.priority = newPriority;
 						QueuedTasksExecutor queuedTasksExecutor = getByPriority(newPriority);
 						task.queuedTasksExecutor = null;
@@ -1231,7 +2387,7 @@ public class QueuedTasksExecutor implements Component {
 			lastToBeWaitedFor.waitForTasksEnding(priority, waitForNewAddedTasks);	
 			for (Entry<String, QueuedTasksExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
 				QueuedTasksExecutor queuedTasksExecutor = queuedTasksExecutorBox.getValue();
-				if (waitForNewAddedTasks && (!queuedTasksExecutor.tasksQueue.isEmpty() || !queuedTasksExecutor.tasksInExecution.isEmpty())) {
+				if (waitForNewAddedTasks && (queuedTasksExecutor.hasQueuedTasks() || !queuedTasksExecutor.tasksInExecution.isEmpty())) {
 					waitForTasksEnding(priority, waitForNewAddedTasks, ignoreDeadLocked);
 					break;
 				}
@@ -1258,6 +2414,170 @@ public class QueuedTasksExecutor implements Component {
 			return this;
 		}
 		
+		public <T> ProducerTask<T> submit(CompletionStage<T> completionStage) {
+			return getByPriority(java.lang.Thread.currentThread().getPriority()).submit(completionStage);
+		}
+		
+		public ProducerTask<Void> allOf(Collection<? extends TaskAbst<?, ?>> tasks) {
+			return getByPriority(java.lang.Thread.currentThread().getPriority()).allOf(tasks);
+		}
+		
+		public ProducerTask<Object> anyOf(Collection<? extends TaskAbst<?, ?>> tasks) {
+			return getByPriority(java.lang.Thread.currentThread().getPriority()).anyOf(tasks);
+		}
+		
+		public Group setVirtualThreadsFlag(int priority, boolean flag) {
+			getByPriority(priority).setVirtualThreadsFlag(flag);
+			return this;
+		}
+		
+		public Group setTasksCreationTrackingSamplingRate(int samplingRate) {
+			for (Entry<String, QueuedTasksExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
+				queuedTasksExecutorBox.getValue().setTasksCreationTrackingSamplingRate(samplingRate);
+			}
+			return this;
+		}
+		
+		public Group setTasksCreationTrackingMaxCapturedFrames(int maxCapturedFrames) {
+			for (Entry<String, QueuedTasksExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
+				queuedTasksExecutorBox.getValue().setTasksCreationTrackingMaxCapturedFrames(maxCapturedFrames);
+			}
+			return this;
+		}
+		
+		public Group setTasksQueueCapacity(int capacity, OverflowPolicy overflowPolicy) {
+			for (Entry<String, QueuedTasksExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
+				queuedTasksExecutorBox.getValue().setTasksQueueCapacity(capacity, overflowPolicy);
+			}
+			return this;
+		}
+		
+		public int getQueuedTasksCount() {
+			int queuedTasksCount = 0;
+			for (Entry<String, QueuedTasksExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
+				queuedTasksCount += queuedTasksExecutorBox.getValue().getQueuedTasksCount();
+			}
+			return queuedTasksCount;
+		}
+		
+		public long getRejectedTasksCount() {
+			long rejectedTasksCount = 0;
+			for (Entry<String, QueuedTasksExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
+				rejectedTasksCount += queuedTasksExecutorBox.getValue().getRejectedTasksCount();
+			}
+			return rejectedTasksCount;
+		}
+		
+		public long getDroppedTasksCount() {
+			long droppedTasksCount = 0;
+			for (Entry<String, QueuedTasksExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
+				droppedTasksCount += queuedTasksExecutorBox.getValue().getDroppedTasksCount();
+			}
+			return droppedTasksCount;
+		}
+		
+		public Group setWorkStealingFlag(boolean flag) {
+			for (Entry<String, QueuedTasksExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
+				queuedTasksExecutorBox.getValue().setWorkStealingFlag(flag);
+			}
+			return this;
+		}
+		
+		public Group enableFairScheduling(int maxConcurrentTasks, long maxWaitTime, Map<Integer, Integer> weights) {
+			FairScheduler fairScheduler = new FairScheduler(maxConcurrentTasks, maxWaitTime);
+			for (Entry<String, QueuedTasksExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
+				fairScheduler.register(
+					queuedTasksExecutorBox.getValue(),
+					Optional.ofNullable(weights.get(Integer.valueOf(queuedTasksExecutorBox.getKey()))).orElseGet(() -> 1)
+				);
+			}
+			for (Entry<String, QueuedTasksExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
+				queuedTasksExecutorBox.getValue().fairScheduler = fairScheduler;
+			}
+			return this;
+		}
+		
+		public Group disableFairScheduling() {
+			for (Entry<String, QueuedTasksExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
+				queuedTasksExecutorBox.getValue().fairScheduler = null;
+			}
+			return this;
+		}
+		
+		public FairScheduler getFairScheduler() {
+			return getByPriority(java.lang.Thread.NORM_PRIORITY).fairScheduler;
+		}
+		
+		public Group setStatisticsFlag(boolean flag) {
+			for (Entry<String, QueuedTasksExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
+				queuedTasksExecutorBox.getValue().setStatisticsFlag(flag);
+			}
+			return this;
+		}
+		
+		public ExecutionStatistics getStatistics(int priority) {
+			return getByPriority(priority).getStatistics();
+		}
+		
+		public String getStatisticsAsString() {
+			StringBuffer log = new StringBuffer();
+			for (Entry<String, QueuedTasksExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
+				log.append(queuedTasksExecutorBox.getValue().getStatisticsAsString());
+			}
+			if (log.length() > 0) {
+				Thread.Supplier threadSupplier = getByPriority(java.lang.Thread.NORM_PRIORITY).threadSupplier;
+				if (threadSupplier != null) {
+					log.append(Strings.compile(
+						"\nThreads - running: {}, idle: {}, total: {}",
+						threadSupplier.getRunningThreadsCount(),
+						threadSupplier.getSleepingThreadsCount(),
+						threadSupplier.getThreadsCount()
+					));
+				}
+			}
+			return log.toString();
+		}
+		
+		public Group logStatistics() {
+			String loggableMessage = getStatisticsAsString();
+			if (!loggableMessage.isEmpty()) {
+				logInfo(loggableMessage);
+			}
+			return this;
+		}
+		
+		public synchronized Group startStatisticsLogging(long interval) {
+			stopStatisticsLogging();
+			statisticsLogger = createJob(this::logStatistics).setName(
+				Optional.ofNullable(name).map(nm -> nm + " - ").orElseGet(() -> "") + "Statistics logger"
+			).setPriority(java.lang.Thread.MIN_PRIORITY).scheduleWithFixedDelay(interval, interval);
+			return this;
+		}
+		
+		public synchronized Group stopStatisticsLogging() {
+			TimerWheel.Job statisticsLogger = this.statisticsLogger;
+			if (statisticsLogger != null) {
+				this.statisticsLogger = null;
+				statisticsLogger.cancel();
+			}
+			return this;
+		}
+		
+		public Group setDirectHandOffFlag(boolean flag) {
+			for (Entry<String, QueuedTasksExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
+				queuedTasksExecutorBox.getValue().setDirectHandOffFlag(flag);
+			}
+			return this;
+		}
+		
+		public long getHandedOffTasksCount() {
+			long handedOffTasksCount = 0;
+			for (Entry<String, QueuedTasksExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
+				handedOffTasksCount += queuedTasksExecutorBox.getValue().getHandedOffTasksCount();
+			}
+			return handedOffTasksCount;
+		}
+		
 		public Group logInfo() {
 			String loggableMessage = getInfoAsString();
 			loggableMessage = getInfoAsString();
@@ -1321,6 +2641,7 @@ public class QueuedTasksExecutor implements Component {
 		}
 		
 		public boolean shutDown(boolean waitForTasksTermination) {
+			timerWheel.close();
 			QueuedTasksExecutor lastToBeWaitedFor = getByPriority(java.lang.Thread.currentThread().getPriority());
 			for (Entry<String, QueuedTasksExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
 				QueuedTasksExecutor queuedTasksExecutor = queuedTasksExecutorBox.getValue();
@@ -1329,8 +2650,11 @@ public class QueuedTasksExecutor implements Component {
 				}
 			}
 			lastToBeWaitedFor.shutDown(waitForTasksTermination);
-			allTasksMonitorer.close(waitForTasksTermination);
-			allTasksMonitorer = null;
+			TasksMonitorer allTasksMonitorer = this.allTasksMonitorer;
+			if (allTasksMonitorer != null) {
+				allTasksMonitorer.close(waitForTasksTermination);
+				this.allTasksMonitorer = null;
+			}
 			queuedTasksExecutors.clear();
 			queuedTasksExecutors = null;
 			return true;
@@ -1340,6 +2664,7 @@ public class QueuedTasksExecutor implements Component {
 			Map<TaskAbst<?, ?>, StackTraceElement[]> waitingTasksAndLastStackTrace;
 			QueuedTasksExecutor.Group queuedTasksExecutorGroup;
 			TasksMonitorer.Config config;
+			TimerWheel.Job job;
 			
 			TasksMonitorer(QueuedTasksExecutor.Group queuedTasksExecutorGroup, TasksMonitorer.Config config) {
 				waitingTasksAndLastStackTrace = new HashMap<>();
@@ -1423,20 +2748,20 @@ public class QueuedTasksExecutor implements Component {
 				return Optional.ofNullable(queuedTasksExecutorGroup.name).map(nm -> nm + " - ").orElseGet(() -> "") + "All tasks monitorer";
 			}
 			
-			public TasksMonitorer start() {	
-				ThreadHolder.startLooping(getName(), true, java.lang.Thread.MIN_PRIORITY, thread -> {
-					thread.waitFor(config.getInterval());
-					if (thread.isLooping()) {
-						if (config.isAllTasksLoggerEnabled()) {
-							queuedTasksExecutorGroup.logInfo();
-						}
-						checkAndHandleProbableDeadLockedTasks(
-							config.getMinimumElapsedTimeToConsiderATaskAsProbablyDeadLocked(),
-							config.isMarkAsProablyDeadLockedEnabled(),
-							config.isKillProablyDeadLockedTasksEnabled()
-						);
+			public synchronized TasksMonitorer start() {
+				stop();
+				job = queuedTasksExecutorGroup.createJob(() -> {
+					if (config.isAllTasksLoggerEnabled()) {
+						queuedTasksExecutorGroup.logInfo();
 					}
-				});
+					checkAndHandleProbableDeadLockedTasks(
+						config.getMinimumElapsedTimeToConsiderATaskAsProbablyDeadLocked(),
+						config.isMarkAsProablyDeadLockedEnabled(),
+						config.isKillProablyDeadLockedTasksEnabled()
+					);
+				}).setName(getName()).setExecutionOnDedicatedThreadFlag(true).scheduleWithFixedDelay(
+					config.getInterval(), config.getInterval()
+				);
 				return this;
 			}
 			
@@ -1445,7 +2770,14 @@ public class QueuedTasksExecutor implements Component {
 			}
 			
 			public void stop(boolean waitThreadToFinish) {
-				ThreadHolder.stop(getName());
+				TimerWheel.Job job;
+				synchronized (this) {
+					if ((job = this.job) == null) {
+						return;
+					}
+					this.job = null;
+				}
+				job.cancel(waitThreadToFinish);
 			}
 			
 			@Override
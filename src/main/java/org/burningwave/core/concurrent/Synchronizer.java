@@ -28,17 +28,38 @@
  */
 package org.burningwave.core.concurrent;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggersRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
-import static org.burningwave.core.assembler.StaticComponentContainer.ThreadHolder;
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.Supplier;
 
 import org.burningwave.core.Closeable;
@@ -46,15 +67,30 @@ import org.burningwave.core.ManagedLogger;
 import org.burningwave.core.function.ThrowingRunnable;
 import org.burningwave.core.function.ThrowingSupplier;
 
-@SuppressWarnings("resource")
+@SuppressWarnings({"resource", "unchecked"})
 public class Synchronizer implements AutoCloseable, ManagedLogger {
+	private final static int STRIPED_MUTEXES_COUNT = 1024;
 	Map<String, Mutex> mutexes;
+	Mutex[] stripedMutexes;
+	Map<LockKey, KeyLock> locks;
+	ThreadLocal<HeldLocks> heldLocks;
+	Map<Object, CompletableFuture<?>> asyncExecutionsTails;
 	String name;
 	ThreadsMonitorer allThreadsMonitorer;
+	volatile ContentionProfiler contentionProfiler;
+	volatile DeadLockDetector deadLockDetector;
+	volatile PinningDetector pinningDetector;
 	
 	private Synchronizer(String name) {
 		this.name = name;
 		mutexes = new ConcurrentHashMap<>();
+		stripedMutexes = new Mutex[STRIPED_MUTEXES_COUNT];
+		for (int i = 0; i < stripedMutexes.length; i++) {
+			stripedMutexes[i] = new Mutex("stripe-" + i);
+		}
+		asyncExecutionsTails = new ConcurrentHashMap<>();
+		locks = new ConcurrentHashMap<>();
+		heldLocks = ThreadLocal.withInitial(HeldLocks::new);
 	}
 	
 	public static Synchronizer create(String name, boolean undestroyable) {
@@ -74,31 +110,66 @@ public class Synchronizer implements AutoCloseable, ManagedLogger {
 	}
 	
 	public Mutex getMutex(String id) {
-		Mutex newMutex = new Mutex(id);
-		while (true) {			
-			Mutex oldMutex = mutexes.putIfAbsent(id, newMutex);
-	        if (oldMutex == null) {
-		        return newMutex;
-	        }
-	        if (++oldMutex.clientsCount > 1 && mutexes.get(id) == oldMutex) {
-	        	return oldMutex;
-        	}
-        	//logWarn("Unvalid mutex with id \"{}\": a new mutex will be created", id);
-        	continue;
+		Mutex mutex = mutexes.get(id);
+		if (mutex != null && mutex.tryToAddClient()) {
+			return mutex;
 		}
+		return mutexes.compute(id, (mutexId, mutexTemp) -> {
+			if (mutexTemp == null || !mutexTemp.tryToAddClient()) {
+				return new Mutex(mutexId);
+			}
+			return mutexTemp;
+		});
     }
-
-	public void removeIfUnused(Mutex mutex) {
-		try {
-			if (--mutex.clientsCount < 1) {
-				mutexes.remove(mutex.id);
+	
+	public Mutex getMutex(Object prefix, Object key) {
+		return stripedMutexes[getStripeIndex(prefix, key)];
+	}
+	
+	KeyLock getLock(Object prefix, Object key) {
+		LockKey lockKey = new LockKey(prefix, key);
+		KeyLock lock = locks.get(lockKey);
+		if (lock != null && lock.tryToAddClient()) {
+			return lock;
+		}
+		return locks.compute(lockKey, (lockKeyTemp, lockTemp) -> {
+			if (lockTemp == null || !lockTemp.tryToAddClient()) {
+				return new KeyLock(lockKeyTemp);
 			}
-		} catch (Throwable exc) {
+			return lockTemp;
+		});
+	}
+	
+	//A lock without clients can no longer be acquired, so it is removed without locking the map
+	void removeIfUnused(KeyLock lock) {
+		if (lock.clientsCount.decrementAndGet() < 1) {
+			locks.remove(lock.key, lock);
+		}
+	}
+	
+	int getStripeIndex(Object prefix, Object key) {
+		int hashCode = 31 * java.util.Objects.hashCode(prefix) + java.util.Objects.hashCode(key);
+		return (hashCode ^ (hashCode >>> 16)) & (STRIPED_MUTEXES_COUNT - 1);
+	}
 
+	public void removeIfUnused(Mutex mutex) {
+		if (mutex.id != null && mutexes.get(mutex.id) == mutex) {
+			mutexes.computeIfPresent(mutex.id, (mutexId, mutexTemp) -> 
+				mutexTemp == mutex && mutexTemp.clientsCount.decrementAndGet() < 1 ? null : mutexTemp
+			);
 		}
 	}
 	
 	public void execute(String id, Runnable executable) {
+		ContentionProfiler contentionProfiler = sample(this.contentionProfiler);
+		DeadLockDetector deadLockDetector = this.deadLockDetector;
+		if (contentionProfiler != null || deadLockDetector != null || pinningDetector != null) {
+			executeAndMonitor(contentionProfiler, deadLockDetector, id, null, null, () -> {
+				executable.run();
+				return null;
+			});
+			return;
+		}
 		Mutex mutex = getMutex(id);
 		try {
 			synchronized (mutex) {
@@ -110,6 +181,15 @@ public class Synchronizer implements AutoCloseable, ManagedLogger {
 	}
 	
 	public <E extends Throwable> void executeThrower(String id, ThrowingRunnable<E> executable) throws E {
+		ContentionProfiler contentionProfiler = sample(this.contentionProfiler);
+		DeadLockDetector deadLockDetector = this.deadLockDetector;
+		if (contentionProfiler != null || deadLockDetector != null || pinningDetector != null) {
+			executeAndMonitor(contentionProfiler, deadLockDetector, id, null, null, () -> {
+				executable.run();
+				return null;
+			});
+			return;
+		}
 		Mutex mutex = getMutex(id);
 		try {
 			synchronized (mutex) {
@@ -121,6 +201,11 @@ public class Synchronizer implements AutoCloseable, ManagedLogger {
 	}
 	
 	public <T> T execute(String id, Supplier<T> executable) {
+		ContentionProfiler contentionProfiler = sample(this.contentionProfiler);
+		DeadLockDetector deadLockDetector = this.deadLockDetector;
+		if (contentionProfiler != null || deadLockDetector != null || pinningDetector != null) {
+			return executeAndMonitor(contentionProfiler, deadLockDetector, id, null, null, executable::get);
+		}
 		Mutex mutex = getMutex(id);
 		try {
 			synchronized (mutex) {
@@ -132,6 +217,11 @@ public class Synchronizer implements AutoCloseable, ManagedLogger {
 	}
 	
 	public <T, E extends Throwable> T executeThrower(String id, ThrowingSupplier<T, E> executable) throws E {
+		ContentionProfiler contentionProfiler = sample(this.contentionProfiler);
+		DeadLockDetector deadLockDetector = this.deadLockDetector;
+		if (contentionProfiler != null || deadLockDetector != null || pinningDetector != null) {
+			return executeAndMonitor(contentionProfiler, deadLockDetector, id, null, null, executable);
+		}
 		Mutex mutex = getMutex(id);
 		try {
 			synchronized (mutex) {
@@ -141,6 +231,325 @@ public class Synchronizer implements AutoCloseable, ManagedLogger {
 			removeIfUnused(mutex);
 		}
 	}
+	
+	public void execute(Object prefix, Object key, Runnable executable) {
+		ContentionProfiler contentionProfiler = sample(this.contentionProfiler);
+		DeadLockDetector deadLockDetector = this.deadLockDetector;
+		if (contentionProfiler != null || deadLockDetector != null || pinningDetector != null) {
+			executeAndMonitor(contentionProfiler, deadLockDetector, null, prefix, key, () -> {
+				executable.run();
+				return null;
+			});
+			return;
+		}
+		synchronized (getMutex(prefix, key)) {
+			executable.run();
+		}
+	}
+	
+	public <E extends Throwable> void executeThrower(Object prefix, Object key, ThrowingRunnable<E> executable) throws E {
+		ContentionProfiler contentionProfiler = sample(this.contentionProfiler);
+		DeadLockDetector deadLockDetector = this.deadLockDetector;
+		if (contentionProfiler != null || deadLockDetector != null || pinningDetector != null) {
+			executeAndMonitor(contentionProfiler, deadLockDetector, null, prefix, key, () -> {
+				executable.run();
+				return null;
+			});
+			return;
+		}
+		synchronized (getMutex(prefix, key)) {
+			executable.run();
+		}
+	}
+	
+	public <T> T execute(Object prefix, Object key, Supplier<T> executable) {
+		ContentionProfiler contentionProfiler = sample(this.contentionProfiler);
+		DeadLockDetector deadLockDetector = this.deadLockDetector;
+		if (contentionProfiler != null || deadLockDetector != null || pinningDetector != null) {
+			return executeAndMonitor(contentionProfiler, deadLockDetector, null, prefix, key, executable::get);
+		}
+		synchronized (getMutex(prefix, key)) {
+			return executable.get();
+		}
+	}
+	
+	public <T, E extends Throwable> T executeThrower(Object prefix, Object key, ThrowingSupplier<T, E> executable) throws E {
+		ContentionProfiler contentionProfiler = sample(this.contentionProfiler);
+		DeadLockDetector deadLockDetector = this.deadLockDetector;
+		if (contentionProfiler != null || deadLockDetector != null || pinningDetector != null) {
+			return executeAndMonitor(contentionProfiler, deadLockDetector, null, prefix, key, executable);
+		}
+		synchronized (getMutex(prefix, key)) {
+			return executable.get();
+		}
+	}
+	
+	<T, E extends Throwable> T executeAndMonitor(
+		ContentionProfiler contentionProfiler,
+		DeadLockDetector deadLockDetector,
+		String id,
+		Object prefix,
+		Object key,
+		ThrowingSupplier<T, E> executable
+	) throws E {
+		Mutex mutex = id != null ? getMutex(id) : getMutex(prefix, key);
+		//The striped mutexes are shared among many keys, so the reports also show the key that has been used
+		String mutexKey = id != null ? null : (prefix != null ? prefix + "_" : "") + key;
+		try {
+			checkPinning(mutex.id, mutexKey);
+			if (deadLockDetector != null) {
+				deadLockDetector.beforeAcquiring(mutex.id, mutexKey);
+			}
+			long startTime = contentionProfiler != null ? System.nanoTime() : 0;
+			synchronized (mutex) {
+				long acquisitionTime = contentionProfiler != null ? System.nanoTime() : 0;
+				if (deadLockDetector != null) {
+					deadLockDetector.afterAcquiring(mutex.id, mutexKey);
+				}
+				try {
+					return executable.get();
+				} finally {
+					if (deadLockDetector != null) {
+						deadLockDetector.beforeReleasing(mutex.id);
+					}
+					if (contentionProfiler != null) {
+						contentionProfiler.record(id, prefix, key, acquisitionTime - startTime, System.nanoTime() - acquisitionTime);
+					}
+				}
+			}
+		} finally {
+			if (id != null) {
+				removeIfUnused(mutex);
+			}
+		}
+	}
+	
+	static ContentionProfiler sample(ContentionProfiler contentionProfiler) {
+		return contentionProfiler != null && contentionProfiler.sample() ? contentionProfiler : null;
+	}
+	
+	public CompletableFuture<Void> executeAsync(Object key, Runnable executable) {
+		return executeAsync(key, () -> {
+			executable.run();
+			return null;
+		});
+	}
+	
+	public <T> CompletableFuture<T> executeAsync(Object key, Supplier<T> executable) {
+		return executeAsync(key, executable, runnable ->
+			BackgroundExecutor.createTask(() -> runnable.run()).submit()
+		);
+	}
+	
+	public <T> CompletableFuture<T> executeAsync(Object key, Supplier<T> executable, Executor executor) {
+		CompletableFuture<T>[] executionWrapper = new CompletableFuture[1];
+		asyncExecutionsTails.compute(key, (k, tail) -> {
+			CompletableFuture<?> previousExecution = tail != null ? tail : CompletableFuture.completedFuture(null);
+			return executionWrapper[0] = previousExecution.handleAsync((result, exc) -> executable.get(), executor);
+		});
+		CompletableFuture<T> execution = executionWrapper[0];
+		execution.whenComplete((result, exc) -> asyncExecutionsTails.remove(key, execution));
+		return execution;
+	}
+	
+	public void startDeadLockDetection() {
+		if (this.deadLockDetector == null) {
+			synchronized (this) {
+				if (this.deadLockDetector == null) {
+					this.deadLockDetector = new DeadLockDetector(this);
+				}
+			}
+		}
+	}
+	
+	public void stopDeadLockDetection() {
+		this.deadLockDetector = null;
+	}
+	
+	public Collection<String> getProbableDeadLocks() {
+		DeadLockDetector deadLockDetector = this.deadLockDetector;
+		return deadLockDetector != null ? new ArrayList<>(deadLockDetector.probableDeadLocks.values()) : new ArrayList<>();
+	}
+	
+	public void startPinningDetection() {
+		if (this.pinningDetector == null) {
+			synchronized (this) {
+				if (this.pinningDetector == null) {
+					this.pinningDetector = new PinningDetector(this);
+				}
+			}
+		}
+	}
+	
+	public void stopPinningDetection() {
+		this.pinningDetector = null;
+	}
+	
+	public Map<String, Long> getPinnedSections() {
+		Map<String, Long> pinnedSections = new LinkedHashMap<>();
+		PinningDetector pinningDetector = this.pinningDetector;
+		if (pinningDetector != null) {
+			pinningDetector.pinningsCount.forEach((id, counter) -> pinnedSections.put(id, counter.get()));
+		}
+		return pinnedSections;
+	}
+	
+	void checkPinning(String id) {
+		checkPinning(id, null);
+	}
+	
+	void checkPinning(String id, String mutexKey) {
+		PinningDetector pinningDetector = this.pinningDetector;
+		if (pinningDetector != null) {
+			pinningDetector.check(id, mutexKey);
+		}
+	}
+	
+	static String describe(String mutexId, String mutexKey) {
+		return mutexKey != null ? mutexId + " (key '" + mutexKey + "')" : mutexId;
+	}
+	
+	public void startContentionProfiling(int samplingRate) {
+		ContentionProfiler contentionProfiler = this.contentionProfiler;
+		if (contentionProfiler == null || contentionProfiler.samplingRate != samplingRate) {
+			this.contentionProfiler = new ContentionProfiler(samplingRate);
+		}
+	}
+	
+	public void stopContentionProfiling() {
+		this.contentionProfiler = null;
+	}
+	
+	public Map<String, ContentionProfiler.Snapshot> getContentionStatistics() {
+		ContentionProfiler contentionProfiler = this.contentionProfiler;
+		return contentionProfiler != null ? contentionProfiler.getStatisticsForKeyPrefix() : new LinkedHashMap<>();
+	}
+	
+	public Map<String, ContentionProfiler.Snapshot> getMostContendedKeys(int count) {
+		ContentionProfiler contentionProfiler = this.contentionProfiler;
+		return contentionProfiler != null ? contentionProfiler.getMostContendedKeys(count) : new LinkedHashMap<>();
+	}
+	
+	public <T> T executeRead(Object key, Supplier<T> executable) {
+		return executeRead(null, key, executable);
+	}
+	
+	public <T> T executeRead(Object prefix, Object key, Supplier<T> executable) {
+		return executeLocked(prefix, key, false, executable);
+	}
+	
+	public <T> T executeOptimisticRead(Object key, Supplier<T> executable) {
+		return executeOptimisticRead(null, key, executable);
+	}
+	
+	//The executable can run concurrently with a writer and can be run twice, so it must be side-effect free
+	public <T> T executeOptimisticRead(Object prefix, Object key, Supplier<T> executable) {
+		KeyLock lock = getLock(prefix, key);
+		try {
+			long stamp = lock.tryOptimisticRead();
+			if (stamp != 0) {
+				try {
+					T result = executable.get();
+					if (lock.validate(stamp)) {
+						return result;
+					}
+				} catch (RuntimeException exc) {
+					if (lock.validate(stamp)) {
+						throw exc;
+					}
+				}
+			}
+		} finally {
+			removeIfUnused(lock);
+		}
+		return executeRead(prefix, key, executable);
+	}
+	
+	public void executeWrite(Object key, Runnable executable) {
+		executeWrite(null, key, executable);
+	}
+	
+	public void executeWrite(Object prefix, Object key, Runnable executable) {
+		executeWrite(prefix, key, () -> {
+			executable.run();
+			return null;
+		});
+	}
+	
+	public <T> T executeWrite(Object key, Supplier<T> executable) {
+		return executeWrite(null, key, executable);
+	}
+	
+	public <T> T executeWrite(Object prefix, Object key, Supplier<T> executable) {
+		return executeLocked(prefix, key, true, executable);
+	}
+	
+	//The locks are not reentrant: a nested execution on a lock already held by the current thread runs
+	//directly, except for the upgrade from read to write that would wait forever and is therefore rejected
+	<T> T executeLocked(Object prefix, Object key, boolean exclusive, Supplier<T> executable) {
+		HeldLocks heldLocks = this.heldLocks.get();
+		KeyLock lock = getLock(prefix, key);
+		try {
+			int heldLockIndex = heldLocks.indexOf(lock);
+			if (heldLockIndex >= 0) {
+				if (exclusive && !heldLocks.exclusiveFlags[heldLockIndex]) {
+					Throwables.throwException(
+						new IllegalStateException(Strings.compile("Could not acquire the write lock {} while holding its read lock", lock.getId()))
+					);
+				}
+				return executable.get();
+			}
+			ContentionProfiler contentionProfiler = sample(this.contentionProfiler);
+			DeadLockDetector deadLockDetector = this.deadLockDetector;
+			if (contentionProfiler != null || deadLockDetector != null) {
+				return executeAndMonitor(contentionProfiler, deadLockDetector, lock, heldLocks, exclusive, executable);
+			}
+			long stamp = exclusive ? lock.writeLock() : lock.readLock();
+			heldLocks.add(lock, exclusive);
+			try {
+				return executable.get();
+			} finally {
+				heldLocks.removeLast();
+				lock.unlock(stamp);
+			}
+		} finally {
+			removeIfUnused(lock);
+		}
+	}
+	
+	//The StampedLock parks the waiting virtual threads without pinning their carrier, so only the contention and the dead locks are monitored
+	<T> T executeAndMonitor(
+		ContentionProfiler contentionProfiler,
+		DeadLockDetector deadLockDetector,
+		KeyLock lock,
+		HeldLocks heldLocks,
+		boolean exclusive,
+		Supplier<T> executable
+	) {
+		String lockId = deadLockDetector != null ? lock.getId() : null;
+		if (deadLockDetector != null) {
+			deadLockDetector.beforeAcquiring(lockId, null);
+		}
+		long startTime = contentionProfiler != null ? System.nanoTime() : 0;
+		long stamp = exclusive ? lock.writeLock() : lock.readLock();
+		long acquisitionTime = contentionProfiler != null ? System.nanoTime() : 0;
+		heldLocks.add(lock, exclusive);
+		if (deadLockDetector != null) {
+			deadLockDetector.afterAcquiring(lockId, null);
+		}
+		try {
+			return executable.get();
+		} finally {
+			if (deadLockDetector != null) {
+				deadLockDetector.beforeReleasing(lockId);
+			}
+			if (contentionProfiler != null) {
+				contentionProfiler.record(null, lock.key.prefix, lock.key.key, acquisitionTime - startTime, System.nanoTime() - acquisitionTime);
+			}
+			heldLocks.removeLast();
+			lock.unlock(stamp);
+		}
+	}
 
 	public void clear() {
 		mutexes.clear();
@@ -188,6 +597,15 @@ public class Synchronizer implements AutoCloseable, ManagedLogger {
 				IterableObjectHelper.toString(mutexes, key -> key, value -> "" + value.clientsCount + " clients", 1)
 			);
 		}
+		ContentionProfiler contentionProfiler = this.contentionProfiler;
+		if (contentionProfiler != null) {
+			log.append("\n\n");
+			log.append("Contention statistics by key prefix (1 acquisition out of " + contentionProfiler.samplingRate + " sampled):\n");
+			log.append(IterableObjectHelper.toString(contentionProfiler.getStatisticsForKeyPrefix(), key -> key, value -> value.toString(), 1));
+			log.append("\n\n");
+			log.append("Most contended keys:\n");
+			log.append(IterableObjectHelper.toString(contentionProfiler.getMostContendedKeys(10), key -> key, value -> value.toString(), 1));
+		}
 		log.append("\n");
 		return log.toString();
 	}
@@ -226,23 +644,504 @@ public class Synchronizer implements AutoCloseable, ManagedLogger {
 			this.id = id;
 		}
 		String id;
-		int clientsCount = 1;
+		AtomicInteger clientsCount = new AtomicInteger(1);
+		
+		//A mutex without clients is being removed and can no longer be acquired
+		boolean tryToAddClient() {
+			int count;
+			while ((count = clientsCount.get()) > 0) {
+				if (clientsCount.compareAndSet(count, count + 1)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+	
+	static class LockKey {
+		final Object prefix;
+		final Object key;
+		final int hashCode;
+		
+		LockKey(Object prefix, Object key) {
+			this.prefix = prefix;
+			this.key = key;
+			this.hashCode = 31 * java.util.Objects.hashCode(prefix) + java.util.Objects.hashCode(key);
+		}
+		
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+		
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof LockKey)) {
+				return false;
+			}
+			LockKey lockKey = (LockKey)object;
+			return hashCode == lockKey.hashCode &&
+				java.util.Objects.equals(prefix, lockKey.prefix) &&
+				java.util.Objects.equals(key, lockKey.key);
+		}
+	}
+	
+	static class KeyLock extends StampedLock {
+		private static final long serialVersionUID = 1L;
+		
+		final LockKey key;
+		final AtomicInteger clientsCount;
+		
+		KeyLock(LockKey key) {
+			this.key = key;
+			this.clientsCount = new AtomicInteger(1);
+		}
+		
+		boolean tryToAddClient() {
+			int count;
+			while ((count = clientsCount.get()) > 0) {
+				if (clientsCount.compareAndSet(count, count + 1)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		
+		String getId() {
+			return "lock-" + (key.prefix != null ? key.prefix + "_" : "") + key.key;
+		}
+	}
+	
+	static class HeldLocks {
+		KeyLock[] locks;
+		boolean[] exclusiveFlags;
+		int size;
+		
+		HeldLocks() {
+			locks = new KeyLock[4];
+			exclusiveFlags = new boolean[4];
+		}
+		
+		int indexOf(KeyLock lock) {
+			for (int i = size - 1; i >= 0; i--) {
+				if (locks[i] == lock) {
+					return i;
+				}
+			}
+			return -1;
+		}
+		
+		void add(KeyLock lock, boolean exclusive) {
+			if (size == locks.length) {
+				locks = Arrays.copyOf(locks, size * 2);
+				exclusiveFlags = Arrays.copyOf(exclusiveFlags, size * 2);
+			}
+			locks[size] = lock;
+			exclusiveFlags[size++] = exclusive;
+		}
+		
+		void removeLast() {
+			locks[--size] = null;
+		}
+	}
+	
+	static class DeadLockDetector {
+		private final static int MAX_TRACKED_MUTEXES_COUNT = 65536;
+		final Synchronizer synchronizer;
+		final ThreadLocal<Deque<String[]>> mutexesHeld;
+		final Map<String, Map<String, Acquisition>> acquisitionOrder;
+		final Map<String, String> probableDeadLocks;
+		final AtomicBoolean overflowNotified;
+		
+		DeadLockDetector(Synchronizer synchronizer) {
+			this.synchronizer = synchronizer;
+			this.mutexesHeld = ThreadLocal.withInitial(ArrayDeque::new);
+			this.acquisitionOrder = new ConcurrentHashMap<>();
+			this.probableDeadLocks = new ConcurrentHashMap<>();
+			this.overflowNotified = new AtomicBoolean();
+		}
+		
+		void beforeAcquiring(String mutexId, String mutexKey) {
+			Deque<String[]> mutexesHeld = this.mutexesHeld.get();
+			if (mutexesHeld.isEmpty() || indexOf(mutexesHeld, mutexId) != null) {
+				return;
+			}
+			StackTraceElement[] stackTrace = null;
+			for (String[] mutexHeld : mutexesHeld) {
+				String mutexHeldId = mutexHeld[0];
+				Map<String, Acquisition> successors = acquisitionOrder.get(mutexHeldId);
+				if (successors != null && successors.containsKey(mutexId)) {
+					continue;
+				}
+				if (successors == null) {
+					if (acquisitionOrder.size() >= MAX_TRACKED_MUTEXES_COUNT) {
+						if (overflowNotified.compareAndSet(false, true)) {
+							synchronizer.logWarn(
+								"Dead lock detector: more than {} mutexes tracked, new acquisition orders will be ignored", MAX_TRACKED_MUTEXES_COUNT
+							);
+						}
+						return;
+					}
+					successors = acquisitionOrder.computeIfAbsent(mutexHeldId, key -> new ConcurrentHashMap<>());
+				}
+				if (stackTrace == null) {
+					stackTrace = java.lang.Thread.currentThread().getStackTrace();
+				}
+				if (successors.putIfAbsent(mutexId, new Acquisition(mutexHeld[1], mutexKey, stackTrace)) == null) {
+					List<String> path = findPath(mutexId, mutexHeldId);
+					if (path != null) {
+						path.add(0, mutexHeldId);
+						notifyProbableDeadLock(path);
+					}
+				}
+			}
+		}
+		
+		void afterAcquiring(String mutexId, String mutexKey) {
+			mutexesHeld.get().push(new String[] {mutexId, mutexKey});
+		}
+		
+		void beforeReleasing(String mutexId) {
+			Deque<String[]> mutexesHeld = this.mutexesHeld.get();
+			mutexesHeld.removeFirstOccurrence(indexOf(mutexesHeld, mutexId));
+		}
+		
+		String[] indexOf(Deque<String[]> mutexesHeld, String mutexId) {
+			for (String[] mutexHeld : mutexesHeld) {
+				if (mutexHeld[0].equals(mutexId)) {
+					return mutexHeld;
+				}
+			}
+			return null;
+		}
+		
+		List<String> findPath(String from, String to) {
+			Map<String, String> predecessors = new HashMap<>();
+			Deque<String> toBeVisited = new ArrayDeque<>();
+			predecessors.put(from, from);
+			toBeVisited.add(from);
+			while (!toBeVisited.isEmpty()) {
+				String mutexId = toBeVisited.poll();
+				if (mutexId.equals(to)) {
+					List<String> path = new ArrayList<>();
+					for (String step = to; !step.equals(from); step = predecessors.get(step)) {
+						path.add(0, step);
+					}
+					path.add(0, from);
+					return path;
+				}
+				Map<String, Acquisition> successors = acquisitionOrder.get(mutexId);
+				if (successors != null) {
+					for (String successor : successors.keySet()) {
+						if (predecessors.putIfAbsent(successor, mutexId) == null) {
+							toBeVisited.add(successor);
+						}
+					}
+				}
+			}
+			return null;
+		}
+		
+		void notifyProbableDeadLock(List<String> cycle) {
+			List<String> mutexIds = new ArrayList<>(cycle.subList(0, cycle.size() - 1));
+			Collections.sort(mutexIds);
+			String cycleId = String.join(" -> ", mutexIds);
+			if (probableDeadLocks.containsKey(cycleId)) {
+				return;
+			}
+			StringBuffer report = new StringBuffer("Probable dead lock: the mutexes ");
+			report.append(String.join(" -> ", cycle));
+			report.append(" are acquired in inconsistent order:");
+			for (int i = 0; i < cycle.size() - 1; i++) {
+				Map<String, Acquisition> successors = acquisitionOrder.get(cycle.get(i));
+				Acquisition acquisition = successors != null ? successors.get(cycle.get(i + 1)) : null;
+				report.append("\n\n\t" + describe(cycle.get(i + 1), acquisition != null ? acquisition.mutexKey : null) +
+					" acquired while holding " + describe(cycle.get(i), acquisition != null ? acquisition.mutexHeldKey : null) + " at:");
+				report.append(Strings.from(acquisition != null ? acquisition.stackTrace : new StackTraceElement[0], 2));
+			}
+			if (probableDeadLocks.putIfAbsent(cycleId, report.toString()) == null) {
+				synchronizer.logWarn(report.toString());
+			}
+		}
+	}
+	
+	static class Acquisition {
+		final String mutexHeldKey;
+		final String mutexKey;
+		final StackTraceElement[] stackTrace;
+		
+		Acquisition(String mutexHeldKey, String mutexKey, StackTraceElement[] stackTrace) {
+			this.mutexHeldKey = mutexHeldKey;
+			this.mutexKey = mutexKey;
+			this.stackTrace = stackTrace;
+		}
+	}
+	
+	static class PinningDetector {
+		private final static int MAX_TRACKED_SECTIONS_COUNT = 1024;
+		final Synchronizer synchronizer;
+		final Map<String, AtomicLong> pinningsCount;
+		
+		PinningDetector(Synchronizer synchronizer) {
+			this.synchronizer = synchronizer;
+			this.pinningsCount = new ConcurrentHashMap<>();
+		}
+		
+		void check(String id, String mutexKey) {
+			java.lang.Thread currentThread = java.lang.Thread.currentThread();
+			if (!Thread.VirtualSupplier.isVirtual(currentThread)) {
+				return;
+			}
+			AtomicLong counter = pinningsCount.get(id);
+			if (counter == null) {
+				if (pinningsCount.size() >= MAX_TRACKED_SECTIONS_COUNT) {
+					return;
+				}
+				counter = pinningsCount.computeIfAbsent(id, key -> new AtomicLong());
+			}
+			if (counter.incrementAndGet() == 1) {
+				synchronizer.logWarn(
+					"{} is entering the synchronized section of '{}' and will pin its carrier thread until it leaves it:{}",
+					currentThread, describe(id, mutexKey), Strings.from(currentThread.getStackTrace(), 2)
+				);
+			}
+		}
+	}
+	
+	public static class ContentionProfiler {
+		private final static int MAX_TRACKED_KEYS_COUNT = 1024;
+		private final static long CONTENTION_THRESHOLD = 1000;
+		final int samplingRate;
+		final Map<String, LockStatistics> statisticsForKeyPrefix;
+		final Map<String, LockStatistics> statisticsForContendedKey;
+		
+		ContentionProfiler(int samplingRate) {
+			this.samplingRate = Math.max(samplingRate, 1);
+			this.statisticsForKeyPrefix = new ConcurrentHashMap<>();
+			this.statisticsForContendedKey = new ConcurrentHashMap<>();
+		}
+		
+		boolean sample() {
+			return samplingRate == 1 || ThreadLocalRandom.current().nextInt(samplingRate) == 0;
+		}
+		
+		void record(String id, Object prefix, Object key, long waitTime, long holdTime) {
+			String keyPrefix = id != null ? toKeyPrefix(id) :
+				prefix instanceof String ? toKeyPrefix((String)prefix) :
+				prefix != null ? prefix.getClass().getName() : String.valueOf(key);
+			LockStatistics statistics = getOrCreate(statisticsForKeyPrefix, keyPrefix);
+			if (statistics != null) {
+				statistics.record(waitTime, holdTime);
+			}
+			if (waitTime >= CONTENTION_THRESHOLD) {
+				statistics = getOrCreate(statisticsForContendedKey, id != null ? id : prefix + "_" + key);
+				if (statistics != null) {
+					statistics.record(waitTime, holdTime);
+				}
+			}
+		}
+		
+		LockStatistics getOrCreate(Map<String, LockStatistics> statisticsMap, String key) {
+			LockStatistics statistics = statisticsMap.get(key);
+			if (statistics == null && statisticsMap.size() < MAX_TRACKED_KEYS_COUNT) {
+				statistics = statisticsMap.computeIfAbsent(key, k -> new LockStatistics());
+			}
+			return statistics;
+		}
+		
+		static String toKeyPrefix(String id) {
+			int index = id.indexOf('@');
+			if (index < 0) {
+				index = id.indexOf('_');
+			}
+			if (index > 0) {
+				return id.substring(0, index);
+			}
+			return id.indexOf('/') > -1 || id.indexOf('\\') > -1 ? "<path>" : id;
+		}
+		
+		Map<String, Snapshot> getStatisticsForKeyPrefix() {
+			Map<String, Snapshot> statistics = new TreeMap<>();
+			for (Entry<String, LockStatistics> entry : statisticsForKeyPrefix.entrySet()) {
+				statistics.put(entry.getKey(), entry.getValue().snapshot(samplingRate));
+			}
+			return statistics;
+		}
+		
+		Map<String, Snapshot> getMostContendedKeys(int count) {
+			Map<String, Snapshot> mostContendedKeys = new LinkedHashMap<>();
+			statisticsForContendedKey.entrySet().stream().map(entry ->
+				new AbstractMap.SimpleEntry<>(entry.getKey(), entry.getValue().snapshot(samplingRate))
+			).sorted((entryOne, entryTwo) ->
+				Long.compare(entryTwo.getValue().getTotalWaitTime(), entryOne.getValue().getTotalWaitTime())
+			).limit(count).forEach(entry ->
+				mostContendedKeys.put(entry.getKey(), entry.getValue())
+			);
+			return mostContendedKeys;
+		}
+		
+		static class LockStatistics {
+			private final static int WAIT_TIME_BUCKETS_COUNT = 64;
+			final LongAdder acquisitions;
+			final LongAdder contendedAcquisitions;
+			final LongAdder totalWaitTime;
+			final LongAdder totalHoldTime;
+			final AtomicLong maxWaitTime;
+			final AtomicLong maxHoldTime;
+			final AtomicLongArray waitTimeHistogram;
+			
+			LockStatistics() {
+				acquisitions = new LongAdder();
+				contendedAcquisitions = new LongAdder();
+				totalWaitTime = new LongAdder();
+				totalHoldTime = new LongAdder();
+				maxWaitTime = new AtomicLong();
+				maxHoldTime = new AtomicLong();
+				waitTimeHistogram = new AtomicLongArray(WAIT_TIME_BUCKETS_COUNT);
+			}
+			
+			void record(long waitTime, long holdTime) {
+				acquisitions.increment();
+				if (waitTime >= CONTENTION_THRESHOLD) {
+					contendedAcquisitions.increment();
+				}
+				totalWaitTime.add(waitTime);
+				totalHoldTime.add(holdTime);
+				if (waitTime > maxWaitTime.get()) {
+					maxWaitTime.accumulateAndGet(waitTime, Math::max);
+				}
+				if (holdTime > maxHoldTime.get()) {
+					maxHoldTime.accumulateAndGet(holdTime, Math::max);
+				}
+				waitTimeHistogram.incrementAndGet(
+					Math.min(WAIT_TIME_BUCKETS_COUNT - 1, WAIT_TIME_BUCKETS_COUNT - Long.numberOfLeadingZeros(Math.max(waitTime, 1)))
+				);
+			}
+			
+			Snapshot snapshot(int samplingRate) {
+				long[] waitTimeHistogram = new long[WAIT_TIME_BUCKETS_COUNT];
+				for (int i = 0; i < waitTimeHistogram.length; i++) {
+					waitTimeHistogram[i] = this.waitTimeHistogram.get(i);
+				}
+				return new Snapshot(
+					samplingRate, acquisitions.sum(), contendedAcquisitions.sum(), totalWaitTime.sum(), maxWaitTime.get(),
+					totalHoldTime.sum(), maxHoldTime.get(), waitTimeHistogram
+				);
+			}
+		}
+		
+		public static class Snapshot {
+			private final int samplingRate;
+			private final long sampledAcquisitionsCount;
+			private final long sampledContendedAcquisitionsCount;
+			private final long totalWaitTime;
+			private final long maxWaitTime;
+			private final long totalHoldTime;
+			private final long maxHoldTime;
+			private final long[] waitTimeHistogram;
+			
+			Snapshot(
+				int samplingRate, long sampledAcquisitionsCount, long sampledContendedAcquisitionsCount, long totalWaitTime,
+				long maxWaitTime, long totalHoldTime, long maxHoldTime, long[] waitTimeHistogram
+			) {
+				this.samplingRate = samplingRate;
+				this.sampledAcquisitionsCount = sampledAcquisitionsCount;
+				this.sampledContendedAcquisitionsCount = sampledContendedAcquisitionsCount;
+				this.totalWaitTime = totalWaitTime;
+				this.maxWaitTime = maxWaitTime;
+				this.totalHoldTime = totalHoldTime;
+				this.maxHoldTime = maxHoldTime;
+				this.waitTimeHistogram = waitTimeHistogram;
+			}
+			
+			public int getSamplingRate() {
+				return samplingRate;
+			}
+			
+			public long getSampledAcquisitionsCount() {
+				return sampledAcquisitionsCount;
+			}
+			
+			public long getEstimatedAcquisitionsCount() {
+				return sampledAcquisitionsCount * samplingRate;
+			}
+			
+			public long getSampledContendedAcquisitionsCount() {
+				return sampledContendedAcquisitionsCount;
+			}
+			
+			public long getTotalWaitTime() {
+				return totalWaitTime;
+			}
+			
+			public long getAverageWaitTime() {
+				return sampledAcquisitionsCount > 0 ? totalWaitTime / sampledAcquisitionsCount : 0;
+			}
+			
+			public long getMaxWaitTime() {
+				return maxWaitTime;
+			}
+			
+			public long getWaitTimePercentile(double percentile) {
+				if (percentile < 0 || percentile > 100) {
+					throw new IllegalArgumentException("percentile must be between 0 and 100");
+				}
+				long samplesCount = 0;
+				for (long bucketSamplesCount : waitTimeHistogram) {
+					samplesCount += bucketSamplesCount;
+				}
+				if (samplesCount == 0) {
+					return 0;
+				}
+				long threshold = (long)Math.ceil(samplesCount * (percentile / 100D));
+				long cumulatedSamplesCount = 0;
+				for (int i = 0; i < waitTimeHistogram.length; i++) {
+					cumulatedSamplesCount += waitTimeHistogram[i];
+					if (cumulatedSamplesCount >= threshold && cumulatedSamplesCount > 0) {
+						return i < 63 ? (1L << i) - 1 : Long.MAX_VALUE;
+					}
+				}
+				return Long.MAX_VALUE;
+			}
+			
+			public long getTotalHoldTime() {
+				return totalHoldTime;
+			}
+			
+			public long getAverageHoldTime() {
+				return sampledAcquisitionsCount > 0 ? totalHoldTime / sampledAcquisitionsCount : 0;
+			}
+			
+			public long getMaxHoldTime() {
+				return maxHoldTime;
+			}
+			
+			@Override
+			public String toString() {
+				return "acquisitions (estimated): " + getEstimatedAcquisitionsCount() +
+					", sampled acquisitions: " + sampledAcquisitionsCount + ", contended: " + sampledContendedAcquisitionsCount +
+					", wait time (avg/p99/max): " + getAverageWaitTime() + "/" + getWaitTimePercentile(99) + "/" + maxWaitTime + "ns" +
+					", hold time (avg/max): " + getAverageHoldTime() + "/" + maxHoldTime + "ns";
+			}
+		}
 	}
 	
 	static class ThreadsMonitorer implements Closeable {
 		Synchronizer synchronizer;
+		TimerWheel.Job job;
 		
 		ThreadsMonitorer(Synchronizer synchronizer) {
 			this.synchronizer = synchronizer;
 		}
 		
-		public ThreadsMonitorer start(Long interval) {
-			ThreadHolder.startLooping(getName(), true, java.lang.Thread.MIN_PRIORITY, thread -> {
-				thread.waitFor(interval);
-				if (thread.isLooping()) {
-					synchronizer.logAllThreadsState(false);
-				}
-			});
+		public synchronized ThreadsMonitorer start(Long interval) {
+			stop(false);
+			job = BackgroundExecutor.createJob(() -> 
+				synchronizer.logAllThreadsState(false)
+			).setName(getName()).setExecutionOnDedicatedThreadFlag(true).scheduleWithFixedDelay(interval, interval);
 			return this;
 		}
 		
@@ -251,7 +1150,14 @@ public class Synchronizer implements AutoCloseable, ManagedLogger {
 		}
 		
 		public void stop(boolean waitThreadToFinish) {
-			ThreadHolder.stop(getName());
+			TimerWheel.Job job;
+			synchronized (this) {
+				if ((job = this.job) == null) {
+					return;
+				}
+				this.job = null;
+			}
+			job.cancel(waitThreadToFinish);
 		}
 		
 		@Override
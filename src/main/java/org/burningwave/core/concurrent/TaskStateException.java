@@ -41,7 +41,7 @@ public class TaskStateException extends Exception {
 				"{} {}{}", 
 				task,
 				message,
-				task.getCreatorInfos() != null ?
+				task.stackTraceOnCreation != null ?
 					" and was created:" + Strings.from(task.getCreatorInfos())
 					: "" 
 			)			
@@ -33,15 +33,26 @@ import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLog
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 
 import org.burningwave.core.Component;
@@ -50,11 +61,11 @@ import org.burningwave.core.ManagedLogger;
 public class Thread extends java.lang.Thread implements ManagedLogger {
 	
 	Consumer<Thread> originalExecutable;
-	Consumer<Thread> executable;
+	volatile Consumer<Thread> executable;
 	boolean looper;
 	boolean looping;
 	private final long index;
-	boolean alive;
+	volatile boolean alive;
 	Supplier supplier;
 	
 	private Thread(Supplier pool, long index) {
@@ -99,6 +110,7 @@ public class Thread extends java.lang.Thread implements ManagedLogger {
 			synchronized(this) {
 				notifyAll();
 			}
+			LockSupport.unpark(this);
 		} else {
 			this.alive = true;
 			super.start();
@@ -133,6 +145,7 @@ public class Thread extends java.lang.Thread implements ManagedLogger {
 	void shutDown(boolean waitForFinish) {
 		alive = false;
 		stopLooping();
+		LockSupport.unpark(this);
 		if (waitForFinish) {
 			try {				
 				join();
@@ -151,6 +164,11 @@ public class Thread extends java.lang.Thread implements ManagedLogger {
 				public static final String POOLABLE_THREAD_REQUEST_TIMEOUT = "thread-supplier.poolable-thread-request-timeout";
 				public static final String MAX_DETACHED_THREADS_COUNT_ELAPSED_TIME_THRESHOLD_FROM_LAST_INCREASE_FOR_GRADUAL_DECREASING_TO_INITIAL_VALUE = "thread-supplier.max-detached-threads-count.elapsed-time-threshold-from-last-increase-for-gradual-decreasing-to-initial-value";
 				public static final String MAX_DETACHED_THREADS_COUNT_INCREASING_STEP = "thread-supplier.max-detached-threads-count.increasing-step";                        
+				public static final String ADAPTIVE_SIZING_ENABLED = "thread-supplier.adaptive-sizing.enabled";
+				public static final String ADAPTIVE_SIZING_MIN_POOLABLE_THREADS_COUNT = "thread-supplier.adaptive-sizing.min-poolable-threads-count";
+				public static final String ADAPTIVE_SIZING_MAX_POOLABLE_THREADS_COUNT = "thread-supplier.adaptive-sizing.max-poolable-threads-count";
+				public static final String ADAPTIVE_SIZING_IDLE_THREAD_RETIRE_TIME = "thread-supplier.adaptive-sizing.idle-thread-retire-time";
+				public static final String ADAPTIVE_SIZING_TARGET_WAIT_TIME = "thread-supplier.adaptive-sizing.target-wait-time";
 				
 			}
 			
@@ -189,23 +207,61 @@ public class Thread extends java.lang.Thread implements ManagedLogger {
 					8
 				);
 				
+				defaultValues.put(
+					Key.ADAPTIVE_SIZING_ENABLED,
+					false
+				);
+				
+				defaultValues.put(
+					Key.ADAPTIVE_SIZING_MIN_POOLABLE_THREADS_COUNT,
+					"autodetect"
+				);
+				
+				defaultValues.put(
+					Key.ADAPTIVE_SIZING_MAX_POOLABLE_THREADS_COUNT,
+					"autodetect"
+				);
+				
+				defaultValues.put(
+					Key.ADAPTIVE_SIZING_IDLE_THREAD_RETIRE_TIME,
+					60000
+				);
+				
+				defaultValues.put(
+					Key.ADAPTIVE_SIZING_TARGET_WAIT_TIME,
+					10
+				);
+				
 				DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 			}
 		}		
 		
+		private final static long ADAPTIVE_SIZING_ADJUSTMENT_INTERVAL = 1000;
 		private String name;
-		private volatile long threadsCount;
-		private volatile long poolableThreadsCount;
-		private int maxPoolableThreadsCount;
+		private AtomicLong threadsCount;
+		private AtomicLong poolableThreadsCount;
+		private volatile int maxPoolableThreadsCount;
+		private volatile int waitingRequestsCount;
 		private int inititialMaxThreadsCount;
 		private int maxThreadsCount;
 		private int maxDetachedThreadsCountIncreasingStep;
 		private long poolableThreadRequestTimeout;
 		private long elapsedTimeThresholdFromLastIncreaseForGradualDecreasingOfMaxDetachedThreadsCount;
 		private Collection<Thread> runningThreads;
-		private Collection<Thread> poolableSleepingThreads;
+		private Deque<Thread> poolableSleepingThreads;
 		private long timeOfLastIncreaseOfMaxDetachedThreadsCount;
 		private boolean daemon;
+		private boolean adaptiveSizingEnabled;
+		private int minPoolableThreadsCount;
+		private int maxPoolableThreadsCountCeiling;
+		private long idleThreadRetireTime;
+		private long targetWaitTime;
+		private LongAdder requestsCount;
+		private LongAdder exhaustedRequestsCount;
+		private LongAdder exhaustedRequestsWaitTime;
+		private AtomicLong timeOfLastAdjustment;
+		private double lastThroughput;
+		private int lastAdjustment;
 		
 		Supplier (
 			String name,
@@ -214,7 +270,9 @@ public class Thread extends java.lang.Thread implements ManagedLogger {
 			this.name = name;
 			this.daemon = Objects.toBoolean(IterableObjectHelper.resolveValue(config, Configuration.Key.DEFAULT_DAEMON_FLAG_VALUE));
 			this.runningThreads = ConcurrentHashMap.newKeySet();
-			this.poolableSleepingThreads = ConcurrentHashMap.newKeySet();
+			this.poolableSleepingThreads = new ConcurrentLinkedDeque<>();
+			this.threadsCount = new AtomicLong();
+			this.poolableThreadsCount = new AtomicLong();
 			
 			int maxPoolableThreadsCountAsInt;
 			double multiplier = 3;
@@ -245,6 +303,120 @@ public class Thread extends java.lang.Thread implements ManagedLogger {
 				Objects.toLong(IterableObjectHelper.resolveValue(config, Configuration.Key.MAX_DETACHED_THREADS_COUNT_ELAPSED_TIME_THRESHOLD_FROM_LAST_INCREASE_FOR_GRADUAL_DECREASING_TO_INITIAL_VALUE));
 			this.maxDetachedThreadsCountIncreasingStep = Objects.toInt(IterableObjectHelper.resolveValue(config, Configuration.Key.MAX_DETACHED_THREADS_COUNT_INCREASING_STEP));
 			this.timeOfLastIncreaseOfMaxDetachedThreadsCount = Long.MAX_VALUE;
+			if (this.adaptiveSizingEnabled = Objects.toBoolean(IterableObjectHelper.resolveValue(config, Configuration.Key.ADAPTIVE_SIZING_ENABLED))) {
+				int minPoolableThreadsCountAsInt;
+				try {
+					minPoolableThreadsCountAsInt = Objects.toInt(IterableObjectHelper.resolveValue(config, Configuration.Key.ADAPTIVE_SIZING_MIN_POOLABLE_THREADS_COUNT));
+				} catch (Throwable exc) {
+					minPoolableThreadsCountAsInt = Math.min(Runtime.getRuntime().availableProcessors(), maxPoolableThreadsCountAsInt);
+				}
+				int maxPoolableThreadsCountCeilingAsInt;
+				try {
+					maxPoolableThreadsCountCeilingAsInt = Objects.toInt(IterableObjectHelper.resolveValue(config, Configuration.Key.ADAPTIVE_SIZING_MAX_POOLABLE_THREADS_COUNT));
+				} catch (Throwable exc) {
+					maxPoolableThreadsCountCeilingAsInt = (int)Math.min((long)maxPoolableThreadsCountAsInt * 4, inititialMaxThreadsCount);
+				}
+				if (minPoolableThreadsCountAsInt <= 0 || maxPoolableThreadsCountCeilingAsInt < minPoolableThreadsCountAsInt) {
+					throw new IllegalArgumentException("Adaptive sizing bounds must be greater than zero and the maximum must not be less than the minimum");
+				}
+				this.minPoolableThreadsCount = minPoolableThreadsCountAsInt;
+				this.maxPoolableThreadsCountCeiling = maxPoolableThreadsCountCeilingAsInt;
+				this.maxPoolableThreadsCount = Math.max(minPoolableThreadsCountAsInt, Math.min(maxPoolableThreadsCountAsInt, maxPoolableThreadsCountCeilingAsInt));
+				this.idleThreadRetireTime = Objects.toLong(IterableObjectHelper.resolveValue(config, Configuration.Key.ADAPTIVE_SIZING_IDLE_THREAD_RETIRE_TIME));
+				this.targetWaitTime = Objects.toLong(IterableObjectHelper.resolveValue(config, Configuration.Key.ADAPTIVE_SIZING_TARGET_WAIT_TIME));
+				this.requestsCount = new LongAdder();
+				this.exhaustedRequestsCount = new LongAdder();
+				this.exhaustedRequestsWaitTime = new LongAdder();
+				this.timeOfLastAdjustment = new AtomicLong(System.currentTimeMillis());
+			}
+		}
+		
+		public int getMaxPoolableThreadsCount() {
+			return maxPoolableThreadsCount;
+		}
+		
+		public long getPoolableThreadsCount() {
+			return poolableThreadsCount.get();
+		}
+		
+		public long getThreadsCount() {
+			return threadsCount.get();
+		}
+		
+		public int getRunningThreadsCount() {
+			return runningThreads.size();
+		}
+		
+		public int getSleepingThreadsCount() {
+			return poolableSleepingThreads.size();
+		}
+		
+		void adjustPoolSize() {
+			long currentTime = System.currentTimeMillis();
+			long timeOfLastAdjustment = this.timeOfLastAdjustment.get();
+			long elapsedTime = currentTime - timeOfLastAdjustment;
+			if (elapsedTime < ADAPTIVE_SIZING_ADJUSTMENT_INTERVAL || !this.timeOfLastAdjustment.compareAndSet(timeOfLastAdjustment, currentTime)) {
+				return;
+			}
+			long requestsCount = this.requestsCount.sumThenReset();
+			long exhaustedRequestsCount = this.exhaustedRequestsCount.sumThenReset();
+			long exhaustedRequestsWaitTime = this.exhaustedRequestsWaitTime.sumThenReset();
+			double throughput = requestsCount * 1000D / elapsedTime;
+			int currentMaxPoolableThreadsCount = this.maxPoolableThreadsCount;
+			int step = Math.max(1, currentMaxPoolableThreadsCount / 8);
+			int newMaxPoolableThreadsCount = currentMaxPoolableThreadsCount;
+			if (exhaustedRequestsCount > 0 && (
+				exhaustedRequestsWaitTime / exhaustedRequestsCount > targetWaitTime || exhaustedRequestsCount * 10 > requestsCount
+			)) {
+				//If the last increase has not brought a throughput improvement we hold the current size for one interval
+				if (lastAdjustment <= 0 || throughput > lastThroughput * 1.05D) {
+					newMaxPoolableThreadsCount = currentMaxPoolableThreadsCount + step;
+				}
+			} else if (exhaustedRequestsCount == 0 &&
+				poolableThreadsCount.get() - poolableSleepingThreads.size() + step < currentMaxPoolableThreadsCount
+			) {
+				newMaxPoolableThreadsCount = currentMaxPoolableThreadsCount - step;
+			}
+			newMaxPoolableThreadsCount = Math.max(minPoolableThreadsCount, Math.min(maxPoolableThreadsCountCeiling, newMaxPoolableThreadsCount));
+			lastAdjustment = Integer.compare(newMaxPoolableThreadsCount, currentMaxPoolableThreadsCount);
+			lastThroughput = throughput;
+			if (lastAdjustment != 0) {
+				maxPoolableThreadsCount = newMaxPoolableThreadsCount;
+				ManagedLoggersRepository.logDebug(
+					() -> this.getClass().getName(),
+					"{}: maxPoolableThreadsCount changed from {} to {} (throughput: {} requests/s, exhausted requests: {})",
+					name, currentMaxPoolableThreadsCount, newMaxPoolableThreadsCount, (long)throughput, exhaustedRequestsCount
+				);
+			}
+		}
+		
+		boolean canBeRetired(Thread thread) {
+			return poolableThreadsCount.get() > minPoolableThreadsCount && poolableSleepingThreads.remove(thread);
+		}
+		
+		void waitForExecutable(Thread thread) {
+			if (!adaptiveSizingEnabled) {
+				while (thread.executable == null && thread.alive) {
+					LockSupport.park(this);
+				}
+				return;
+			}
+			long idleThreadRetireTime = TimeUnit.MILLISECONDS.toNanos(this.idleThreadRetireTime);
+			long retireTime = System.nanoTime() + idleThreadRetireTime;
+			while (thread.executable == null && thread.alive) {
+				long remainingTime = retireTime - System.nanoTime();
+				if (remainingTime > 0) {
+					LockSupport.parkNanos(this, remainingTime);
+				} else if (canBeRetired(thread)) {
+					synchronized (thread) {
+						thread.alive = false;
+						threadsCount.decrementAndGet();
+						poolableThreadsCount.decrementAndGet();
+					}
+				} else {
+					retireTime = System.nanoTime() + idleThreadRetireTime;
+				}
+			}
 		}
 		
 		public Thread getOrCreate(String name) {
@@ -254,6 +426,10 @@ public class Thread extends java.lang.Thread implements ManagedLogger {
 		}
 		
 		public final Thread getOrCreate() {
+			if (adaptiveSizingEnabled) {
+				requestsCount.increment();
+				adjustPoolSize();
+			}
 			return getOrCreate(1);
 		}
 		
@@ -262,18 +438,25 @@ public class Thread extends java.lang.Thread implements ManagedLogger {
 			if (thread != null) {
 				return thread;
 			}
-			if (requestCount > 0 && poolableThreadsCount >= maxPoolableThreadsCount && threadsCount > maxThreadsCount) {
+			if (adaptiveSizingEnabled && requestCount > 0 && poolableThreadsCount.get() >= maxPoolableThreadsCount) {
+				exhaustedRequestsCount.increment();
+			}
+			if (requestCount > 0 && poolableThreadsCount.get() >= maxPoolableThreadsCount && threadsCount.get() > maxThreadsCount) {
 				synchronized (poolableSleepingThreads) {
+					++waitingRequestsCount;
 					try {
 						if ((thread = get()) != null) {
 							return thread;
 						}
-						if (poolableThreadsCount >= maxPoolableThreadsCount && threadsCount > maxThreadsCount) {
+						if (poolableThreadsCount.get() >= maxPoolableThreadsCount && threadsCount.get() > maxThreadsCount) {
 							//This block of code is for preventing dead locks
 							long startWaitTime = System.currentTimeMillis();
 							poolableSleepingThreads.wait(poolableThreadRequestTimeout);
 							long endWaitTime = System.currentTimeMillis();
 							long waitElapsedTime = endWaitTime - startWaitTime;
+							if (adaptiveSizingEnabled) {
+								exhaustedRequestsWaitTime.add(waitElapsedTime);
+							}
 							if (waitElapsedTime < poolableThreadRequestTimeout) {
 								if (inititialMaxThreadsCount < maxThreadsCount &&
 									(System.currentTimeMillis() - timeOfLastIncreaseOfMaxDetachedThreadsCount) > 
@@ -301,17 +484,19 @@ public class Thread extends java.lang.Thread implements ManagedLogger {
 						}
 					} catch (InterruptedException exc) {
 						ManagedLoggersRepository.logError(() -> Thread.class.getName(), exc);
+					} finally {
+						--waitingRequestsCount;
 					}
 				}
-			} else if (poolableThreadsCount >= maxPoolableThreadsCount) {
+			} else if (poolableThreadsCount.get() >= maxPoolableThreadsCount) {
 				return createDetachedThread();
 			}
 			synchronized (poolableSleepingThreads) {
-				if (poolableThreadsCount >= maxPoolableThreadsCount) {
+				if (poolableThreadsCount.get() >= maxPoolableThreadsCount) {
 					return getOrCreate(requestCount);
 				}
-				++poolableThreadsCount;
-				return new Thread(this, ++threadsCount) {
+				poolableThreadsCount.incrementAndGet();
+				return new Thread(this, threadsCount.incrementAndGet()) {
 					
 					@Override
 					public void run() {
@@ -324,28 +509,26 @@ public class Thread extends java.lang.Thread implements ManagedLogger {
 							} catch (Throwable exc) {
 								ManagedLoggersRepository.logError(() -> this.getClass().getName(), exc);
 							}				
-							try {
-								synchronized (this) {
-									runningThreads.remove(this);
-									executable = null;
-									if (!alive) {
-										continue;
-									}
-									setIndexedName();
-									poolableSleepingThreads.add(this);
-									synchronized (poolableSleepingThreads) {
-										poolableSleepingThreads.notifyAll();
-									}
-									wait();
+							synchronized (this) {
+								runningThreads.remove(this);
+								executable = null;
+								if (!alive) {
+									continue;
 								}
-							} catch (InterruptedException exc) {
-								logError(exc);
+								setIndexedName();
 							}
+							poolableSleepingThreads.push(this);
+							if (waitingRequestsCount > 0) {
+								synchronized (poolableSleepingThreads) {
+									poolableSleepingThreads.notifyAll();
+								}
+							}
+							waitForExecutable(this);
 						}
 						synchronized (this) {
 							if (runningThreads.remove(this)) {
-								--supplier.threadsCount;
-								--supplier.poolableThreadsCount;
+								supplier.threadsCount.decrementAndGet();
+								supplier.poolableThreadsCount.decrementAndGet();
 							}
 						}
 						synchronized (poolableSleepingThreads) {
@@ -361,11 +544,11 @@ public class Thread extends java.lang.Thread implements ManagedLogger {
 						shutDown();
 						synchronized (this) {
 							if (runningThreads.remove(this)) {
-								--supplier.threadsCount;
-								--supplier.poolableThreadsCount;
+								supplier.threadsCount.decrementAndGet();
+								supplier.poolableThreadsCount.decrementAndGet();
 							} else if (poolableSleepingThreads.remove(this)) {
-								--supplier.threadsCount;
-								--supplier.poolableThreadsCount;
+								supplier.threadsCount.decrementAndGet();
+								supplier.poolableThreadsCount.decrementAndGet();
 							}
 						}
 						try {
@@ -386,7 +569,7 @@ public class Thread extends java.lang.Thread implements ManagedLogger {
 		}
 
 		public Thread createDetachedThread() {
-			return new Thread(this, ++threadsCount) {
+			return new Thread(this, threadsCount.incrementAndGet()) {
 				@Override
 				public void run() {
 					try {
@@ -397,7 +580,7 @@ public class Thread extends java.lang.Thread implements ManagedLogger {
 					}
 					synchronized (this) {
 						if (runningThreads.remove(this)) {
-							--supplier.threadsCount;
+							supplier.threadsCount.decrementAndGet();
 						}
 					}
 					synchronized (poolableSleepingThreads) {
@@ -413,7 +596,7 @@ public class Thread extends java.lang.Thread implements ManagedLogger {
 					shutDown();
 					synchronized (this) {
 						if (runningThreads.remove(this)) {
-							--supplier.threadsCount;
+							supplier.threadsCount.decrementAndGet();
 						}
 					}
 					try {
@@ -431,15 +614,8 @@ public class Thread extends java.lang.Thread implements ManagedLogger {
 			};
 		}
 
-		private Thread get() {
-			Iterator<Thread> itr = poolableSleepingThreads.iterator();
-			while (itr.hasNext()) {
-				Thread thread = itr.next();
-				if (poolableSleepingThreads.remove(thread)) {
-					return thread;
-				}
-			}
-			return null;
+		Thread get() {
+			return poolableSleepingThreads.pollFirst();
 		}
 		
 		public void shutDownAllPoolableSleeping() {
@@ -481,6 +657,72 @@ public class Thread extends java.lang.Thread implements ManagedLogger {
 		}
 	}
 	
+	public static class VirtualSupplier {
+		private final static MethodHandle isVirtualMethod;
+		private final static MethodHandle ofVirtualMethod;
+		private final static MethodHandle nameMethod;
+		private final static MethodHandle factoryMethod;
+		private ThreadFactory threadFactory;
+		
+		static {
+			MethodHandle isVirtual = null;
+			MethodHandle ofVirtual = null;
+			MethodHandle name = null;
+			MethodHandle factory = null;
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+				Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+				Class<?> virtualBuilderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+				isVirtual = lookup.findVirtual(java.lang.Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+				ofVirtual = lookup.findStatic(java.lang.Thread.class, "ofVirtual", MethodType.methodType(virtualBuilderClass));
+				name = lookup.findVirtual(virtualBuilderClass, "name", MethodType.methodType(virtualBuilderClass, String.class, long.class));
+				factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+			} catch (Throwable exc) {
+				isVirtual = ofVirtual = name = factory = null;
+			}
+			isVirtualMethod = isVirtual;
+			ofVirtualMethod = ofVirtual;
+			nameMethod = name;
+			factoryMethod = factory;
+		}
+		
+		private VirtualSupplier(String name) {
+			try {
+				threadFactory = (ThreadFactory)factoryMethod.invoke(
+					nameMethod.invoke(ofVirtualMethod.invoke(), name + " - virtual executor ", 1L)
+				);
+			} catch (Throwable exc) {
+				Throwables.throwException(exc);
+			}
+		}
+		
+		public static VirtualSupplier create(String name) {
+			if (!isSupported()) {
+				Throwables.throwException("Virtual threads are not supported by this JVM");
+			}
+			return new VirtualSupplier(name);
+		}
+		
+		public static boolean isSupported() {
+			return factoryMethod != null;
+		}
+		
+		public static boolean isVirtual(java.lang.Thread thread) {
+			if (isVirtualMethod != null) {
+				try {
+					return (boolean)isVirtualMethod.invokeExact(thread);
+				} catch (Throwable exc) {
+					Throwables.throwException(exc);
+				}
+			}
+			return false;
+		}
+		
+		public java.lang.Thread createThread(Runnable executable) {
+			return threadFactory.newThread(executable);
+		}
+	}
+	
 	public static class Holder implements Component {
 		private Supplier threadSupplier;
 		private Map<String, Thread> threads;
@@ -0,0 +1,413 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.concurrent;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+import org.burningwave.core.Closeable;
+import org.burningwave.core.ManagedLogger;
+import org.burningwave.core.function.ThrowingRunnable;
+
+public class TimerWheel implements Closeable, ManagedLogger {
+	String name;
+	Thread.Supplier threadSupplier;
+	Consumer<Job> dispatcher;
+	long tickDuration;
+	Job[] buckets;
+	int mask;
+	long startTime;
+	long currentTick;
+	long plannedWakeUpTick;
+	int pendingJobsCount;
+	java.lang.Thread ticker;
+	BlockingQueue<Job> dedicatedThreadJobs;
+	volatile java.lang.Thread dedicatedThread;
+	boolean closed;
+	
+	TimerWheel(String name, Thread.Supplier threadSupplier, long tickDuration, int bucketsCount, Consumer<Job> dispatcher) {
+		if (tickDuration < 1) {
+			Throwables.throwException("Tick duration must be greater than zero");
+		}
+		int size = 1;
+		while (size < bucketsCount) {
+			size <<= 1;
+		}
+		this.name = name;
+		this.threadSupplier = threadSupplier;
+		this.dispatcher = dispatcher;
+		this.tickDuration = tickDuration;
+		this.buckets = new Job[size];
+		this.mask = size - 1;
+		this.startTime = System.currentTimeMillis();
+		this.plannedWakeUpTick = Long.MAX_VALUE;
+		this.dedicatedThreadJobs = new LinkedBlockingQueue<>();
+	}
+	
+	public static TimerWheel create(String name, Thread.Supplier threadSupplier, long tickDuration, int bucketsCount, Consumer<Job> dispatcher) {
+		return new TimerWheel(name, threadSupplier, tickDuration, bucketsCount, dispatcher);
+	}
+	
+	public Job createJob(ThrowingRunnable<? extends Throwable> executable) {
+		return new Job(this, executable);
+	}
+	
+	public synchronized boolean isClosed() {
+		return closed;
+	}
+	
+	public synchronized int getPendingJobsCount() {
+		return pendingJobsCount;
+	}
+	
+	synchronized void schedule(Job job, long time) {
+		if (closed) {
+			Throwables.throwException("{} is closed", name);
+		}
+		if (job.cancelled || job.scheduled) {
+			return;
+		}
+		long elapsedTime = time - startTime;
+		long tick = Math.max(elapsedTime / tickDuration + (elapsedTime % tickDuration > 0 ? 1 : 0), currentTick);
+		job.time = time;
+		job.tick = tick;
+		job.scheduled = true;
+		int bucketIndex = (int)(tick & mask);
+		Job head = buckets[bucketIndex];
+		job.previous = null;
+		job.next = head;
+		if (head != null) {
+			head.previous = job;
+		}
+		buckets[bucketIndex] = job;
+		++pendingJobsCount;
+		if (ticker == null) {
+			startTicker();
+		} else if (tick < plannedWakeUpTick) {
+			notifyAll();
+		}
+	}
+	
+	synchronized void reschedule(Job job, long time) {
+		if (!closed) {
+			schedule(job, time);
+		}
+	}
+	
+	synchronized boolean unschedule(Job job) {
+		if (!job.scheduled) {
+			return false;
+		}
+		unlink(job);
+		return true;
+	}
+	
+	private void unlink(Job job) {
+		if (job.previous != null) {
+			job.previous.next = job.next;
+		} else {
+			buckets[(int)(job.tick & mask)] = job.next;
+		}
+		if (job.next != null) {
+			job.next.previous = job.previous;
+		}
+		job.previous = job.next = null;
+		job.scheduled = false;
+		--pendingJobsCount;
+	}
+	
+	private void startTicker() {
+		Thread ticker = threadSupplier.createDetachedThread().setExecutable(thread -> {
+			List<Job> expiredJobs = new ArrayList<>();
+			while (collectExpiredJobs(expiredJobs)) {
+				for (Job job : expiredJobs) {
+					try {
+						if (job.executedOnDedicatedThread) {
+							executeOnDedicatedThread(job);
+						} else {
+							dispatcher.accept(job);
+						}
+					} catch (Throwable exc) {
+						logError("Exception occurred while dispatching " + job, exc);
+					}
+				}
+				expiredJobs.clear();
+			}
+		});
+		ticker.setName(name + " ticker");
+		ticker.setPriority(java.lang.Thread.MAX_PRIORITY);
+		ticker.setDaemon(true);
+		this.ticker = ticker;
+		ticker.start();
+	}
+	
+	private void executeOnDedicatedThread(Job job) {
+		dedicatedThreadJobs.add(job);
+		if (dedicatedThread == null) {
+			synchronized (this) {
+				if (dedicatedThread == null && !closed) {
+					startDedicatedThread();
+				}
+			}
+		}
+	}
+	
+	private void startDedicatedThread() {
+		Thread dedicatedThread = threadSupplier.createDetachedThread().setExecutable(thread -> {
+			try {
+				while (true) {
+					Job job = dedicatedThreadJobs.take();
+					try {
+						job.execute();
+					} catch (Throwable exc) {
+						logError("Exception occurred while executing " + job, exc);
+					}
+				}
+			} catch (InterruptedException exc) {
+				logDebug("{} stopped", thread.getName());
+			}
+		});
+		dedicatedThread.setName(name + " dedicated executor");
+		dedicatedThread.setPriority(java.lang.Thread.NORM_PRIORITY);
+		dedicatedThread.setDaemon(true);
+		this.dedicatedThread = dedicatedThread;
+		dedicatedThread.start();
+	}
+	
+	private synchronized boolean collectExpiredJobs(List<Job> expiredJobs) {
+		while (!closed) {
+			long nowTick = (System.currentTimeMillis() - startTime) / tickDuration;
+			long lastTick = Math.min(nowTick, currentTick + buckets.length - 1);
+			for (; currentTick <= lastTick; currentTick++) {
+				Job job = buckets[(int)(currentTick & mask)];
+				while (job != null) {
+					Job next = job.next;
+					if (job.tick <= nowTick) {
+						unlink(job);
+						expiredJobs.add(job);
+					}
+					job = next;
+				}
+			}
+			currentTick = Math.max(currentTick, nowTick + 1);
+			if (!expiredJobs.isEmpty()) {
+				return true;
+			}
+			try {
+				if (pendingJobsCount == 0) {
+					plannedWakeUpTick = Long.MAX_VALUE;
+					wait();
+				} else {
+					plannedWakeUpTick = findNextTick();
+					long waitTime = startTime + plannedWakeUpTick * tickDuration - System.currentTimeMillis();
+					if (waitTime > 0) {
+						wait(waitTime);
+					}
+				}
+			} catch (InterruptedException exc) {
+				logError(exc);
+			}
+		}
+		ticker = null;
+		return false;
+	}
+	
+	private long findNextTick() {
+		long nextTick = Long.MAX_VALUE;
+		for (long tick = currentTick; tick < currentTick + buckets.length; tick++) {
+			for (Job job = buckets[(int)(tick & mask)]; job != null; job = job.next) {
+				if (job.tick == tick) {
+					return tick;
+				}
+				nextTick = Math.min(nextTick, job.tick);
+			}
+		}
+		return nextTick;
+	}
+	
+	@Override
+	public void close() {
+		synchronized (this) {
+			closed = true;
+			for (int i = 0; i < buckets.length; i++) {
+				for (Job job = buckets[i]; job != null; job = job.next) {
+					job.cancelled = true;
+					job.scheduled = false;
+				}
+				buckets[i] = null;
+			}
+			pendingJobsCount = 0;
+			dedicatedThreadJobs.clear();
+			notifyAll();
+		}
+		java.lang.Thread dedicatedThread = this.dedicatedThread;
+		if (dedicatedThread != null) {
+			this.dedicatedThread = null;
+			dedicatedThread.interrupt();
+		}
+	}
+	
+	public static class Job {
+		TimerWheel timerWheel;
+		ThrowingRunnable<? extends Throwable> executable;
+		String name;
+		int priority;
+		volatile boolean executedOnDedicatedThread;
+		java.lang.Thread executor;
+		long period;
+		volatile long time;
+		volatile boolean cancelled;
+		boolean scheduled;
+		long tick;
+		Job previous;
+		Job next;
+		
+		Job(TimerWheel timerWheel, ThrowingRunnable<? extends Throwable> executable) {
+			this.timerWheel = timerWheel;
+			this.executable = executable;
+			this.priority = java.lang.Thread.currentThread().getPriority();
+		}
+		
+		public Job setName(String name) {
+			this.name = name;
+			return this;
+		}
+		
+		public String getName() {
+			return name;
+		}
+		
+		public Job setPriority(int priority) {
+			this.priority = priority;
+			return this;
+		}
+		
+		public int getPriority() {
+			return priority;
+		}
+		
+		//The jobs executed on the dedicated thread of the wheel bypass the dispatcher and run one at a time
+		public Job setExecutionOnDedicatedThreadFlag(boolean flag) {
+			this.executedOnDedicatedThread = flag;
+			return this;
+		}
+		
+		public boolean isExecutedOnDedicatedThread() {
+			return executedOnDedicatedThread;
+		}
+		
+		public Job schedule(long delay) {
+			return schedule(delay, 0);
+		}
+		
+		public Job scheduleAtFixedRate(long initialDelay, long period) {
+			if (period < 1) {
+				Throwables.throwException("Period must be greater than zero");
+			}
+			return schedule(initialDelay, period);
+		}
+		
+		public Job scheduleWithFixedDelay(long initialDelay, long delay) {
+			if (delay < 1) {
+				Throwables.throwException("Delay must be greater than zero");
+			}
+			return schedule(initialDelay, -delay);
+		}
+		
+		private Job schedule(long initialDelay, long period) {
+			this.period = period;
+			timerWheel.schedule(this, System.currentTimeMillis() + initialDelay);
+			return this;
+		}
+		
+		public long getNextExecutionTime() {
+			return time;
+		}
+		
+		public boolean isPeriodic() {
+			return period != 0;
+		}
+		
+		public boolean isCancelled() {
+			return cancelled;
+		}
+		
+		public boolean cancel() {
+			cancelled = true;
+			return timerWheel.unschedule(this);
+		}
+		
+		public boolean cancel(boolean waitForExecutionEnding) {
+			boolean unscheduled = cancel();
+			if (waitForExecutionEnding) {
+				synchronized (this) {
+					while (executor != null && executor != java.lang.Thread.currentThread()) {
+						try {
+							wait();
+						} catch (InterruptedException exc) {
+							Throwables.throwException(exc);
+						}
+					}
+				}
+			}
+			return unscheduled;
+		}
+		
+		void execute() throws Throwable {
+			synchronized (this) {
+				if (cancelled) {
+					return;
+				}
+				executor = java.lang.Thread.currentThread();
+			}
+			try {
+				executable.run();
+			} finally {
+				synchronized (this) {
+					executor = null;
+					notifyAll();
+				}
+				if (period != 0 && !cancelled) {
+					long currentTime = System.currentTimeMillis();
+					timerWheel.reschedule(this, period > 0 ? Math.max(time + period, currentTime) : currentTime - period);
+				}
+			}
+		}
+		
+		@Override
+		public String toString() {
+			return name != null ? name : super.toString();
+		}
+	}
+}
@@ -28,10 +28,10 @@
  */
 package org.burningwave.core.io;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
 import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
-import static org.burningwave.core.assembler.StaticComponentContainer.ThreadHolder;
 import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
 import java.io.File;
@@ -50,6 +50,7 @@ import org.burningwave.core.Closeable;
 import org.burningwave.core.Component;
 import org.burningwave.core.ManagedLogger;
 import org.burningwave.core.assembler.StaticComponentContainer;
+import org.burningwave.core.concurrent.TimerWheel;
 import org.burningwave.core.function.Executor;
 
 
@@ -228,6 +229,7 @@ public class FileSystemHelper implements Component {
 		private long deletingInterval;
 		private long waitInterval;
 		private File burningwaveTemporaryFolder;
+		private TimerWheel.Job job;
 		long lastDeletionStartTime;
 		
 		private Scavenger(FileSystemHelper fileSystemHelper, String name, long deletingInterval, long waitInterval) {
@@ -239,7 +241,7 @@ public class FileSystemHelper implements Component {
 		}
 
 		public boolean isAlive() {
-			return ThreadHolder.isAlive(name);
+			return job != null;
 		}
 
 		void pingAndDelete() {
@@ -293,12 +295,12 @@ public class FileSystemHelper implements Component {
 			}
 		}
 		
-		public void start() {
+		public synchronized void start() {
+			stop();
 			lastDeletionStartTime = -1;
-			ThreadHolder.startLooping(name, true, Thread.MIN_PRIORITY, thread -> {
-				pingAndDelete();
-				thread.waitFor(waitInterval);
-			});
+			job = BackgroundExecutor.createJob(
+				this::pingAndDelete
+			).setName(name).setPriority(Thread.MIN_PRIORITY).scheduleWithFixedDelay(0, waitInterval);
 		}
 
 		long getOrSetPingTime(File pingFile) throws IOException {
@@ -342,8 +344,12 @@ public class FileSystemHelper implements Component {
 			return pingTime;
 		}
 		
-		public void stop() {
-			ThreadHolder.stop(name);
+		public synchronized void stop() {
+			TimerWheel.Job job = this.job;
+			if (job != null) {
+				this.job = null;
+				job.cancel();
+			}
 		}
 		
 		@Override
@@ -117,7 +117,7 @@ public class FileSystemItem implements ManagedLogger {
 		FileSystemItem parentContainer = this.parentContainer;
 		String absolutePath = this.absolutePath.getKey();
 		if ((conventionedAbsolutePath == null) || parentContainer == null) {
-			conventionedAbsolutePath = Synchronizer.execute(absolutePath, () -> {
+			conventionedAbsolutePath = Synchronizer.executeWrite(instanceIdPrefix, absolutePath, () -> {
 				FileSystemItem parentContainerTemp = this.parentContainer;
 				String conventionedAbsolutePathTemp = this.absolutePath.getValue();
 				if (conventionedAbsolutePathTemp == null || parentContainerTemp == null) {
@@ -607,13 +607,19 @@ public class FileSystemItem implements ManagedLogger {
 	}
 
 	private void removeFromCache(FileSystemItem fileSystemItem, boolean removeFromCache) {
-		Cache.pathForContents.remove(fileSystemItem.getAbsolutePath(), true);
-		IterableZipContainer zipContainer = Cache.pathForIterableZipContainers.get(fileSystemItem.getAbsolutePath());
+		String absolutePath = fileSystemItem.getAbsolutePath();
+		String childrenAbsolutePathPrefix = absolutePath.endsWith("/") ? absolutePath : absolutePath + "/";
+		Cache.pathForContents.remove(absolutePath, true);
+		Cache.pathForContents.removeAllUnder(childrenAbsolutePathPrefix, true);
+		IterableZipContainer zipContainer = Cache.pathForIterableZipContainers.get(absolutePath);
 		if (zipContainer != null) {
 			zipContainer.destroy();
 		}
+		Cache.pathForIterableZipContainers.forEachUnder(childrenAbsolutePathPrefix, (path, nestedZipContainer) ->
+			nestedZipContainer.destroy()
+		);
 		if (removeFromCache) {
-			Cache.pathForFileSystemItems.remove(fileSystemItem.getAbsolutePath(), true);
+			Cache.pathForFileSystemItems.remove(absolutePath, true);
 		}
 	}
 
@@ -643,8 +649,8 @@ public class FileSystemItem implements ManagedLogger {
 						child.parent = null;
 						child.allChildren = null;
 						child.children = null;
-						if (removeLinkedResourcesFromCache) {
-							removeFromCache(child, removeFromCache);
+						if (removeLinkedResourcesFromCache && removeFromCache) {
+							Cache.pathForFileSystemItems.remove(child.getAbsolutePath(), true);
 						}
 					});
 				}
@@ -155,6 +155,11 @@ public interface IterableZipContainer extends Component {
 	
 	public ByteBuffer toByteBuffer();
 	
+	public default long getSize() {
+		File file = new File(getAbsolutePath());
+		return file.isFile() ? file.length() : 0;
+	}
+	
 	public <Z extends Entry> Z getNextEntry();
 	
 	public IterableZipContainer.Entry getNextEntry(Predicate<IterableZipContainer.Entry> loadZipEntryData);
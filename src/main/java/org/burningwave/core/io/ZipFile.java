@@ -61,6 +61,7 @@ class ZipFile implements IterableZipContainer {
 	java.util.zip.ZipFile originalZipFile;
 	Boolean isDestroyed;
 	Supplier<ByteBuffer> contentSupplier;
+	long size;
 	
 	static {
 		classId = Objects.getClassId(ZipFile.class);
@@ -71,6 +72,7 @@ class ZipFile implements IterableZipContainer {
 		this.absolutePath = Paths.clean(absolutePath);
 		entries = ConcurrentHashMap.newKeySet();
 		this.contentSupplier = () -> content;
+		this.size = content.limit();
 		try (java.util.zip.ZipFile zipFile = retrieveFile(absolutePath, content)) {
 			Enumeration<? extends ZipEntry> entriesIterator = zipFile.entries();
 			while (entriesIterator.hasMoreElements()) {
@@ -145,8 +147,9 @@ class ZipFile implements IterableZipContainer {
 		return originalZipFile;
 	}
 	
-	private ZipFile(String absolutePath, Collection<Entry> entries, Supplier<ByteBuffer> contentSupplier) {
+	private ZipFile(String absolutePath, Collection<Entry> entries, Supplier<ByteBuffer> contentSupplier, long size) {
 		this.absolutePath = absolutePath;
+		this.size = size;
 		this.entries = entries;
 		this.entriesIterator = entries.iterator();
 		this.contentSupplier = contentSupplier;
@@ -154,7 +157,7 @@ class ZipFile implements IterableZipContainer {
 	
 	@Override
 	public IterableZipContainer duplicate() {
-		return new ZipFile(absolutePath, entries, contentSupplier);
+		return new ZipFile(absolutePath, entries, contentSupplier, size);
 	}
 	
 	@Override
@@ -197,6 +200,11 @@ class ZipFile implements IterableZipContainer {
 		return Cache.pathForContents.getOrUploadIfAbsent(getAbsolutePath(), contentSupplier);
 	}
 
+	@Override
+	public long getSize() {
+		return size;
+	}
+
 	@Override
 	public <Z extends IterableZipContainer.Entry> Z getNextEntry() {
 		return (Z) (currentZipEntry = entriesIterator.hasNext()? entriesIterator.next() : null);
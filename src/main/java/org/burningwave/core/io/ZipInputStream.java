@@ -112,6 +112,11 @@ class ZipInputStream extends java.util.zip.ZipInputStream implements IterableZip
 	public ByteBuffer toByteBuffer() {
 		return byteBufferInputStream.toByteBuffer();
 	}
+	
+	@Override
+	public long getSize() {
+		return byteBufferInputStream != null ? byteBufferInputStream.toByteBuffer().limit() : IterableZipContainer.super.getSize();
+	}
 
 	public byte[] toByteArray() {
 		return Streams.toByteArray(toByteBuffer());
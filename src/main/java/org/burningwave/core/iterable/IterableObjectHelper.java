@@ -58,9 +58,9 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.burningwave.core.Component;
-import org.burningwave.core.concurrent.QueuedTasksExecutor;
 import org.burningwave.core.function.ThrowingBiConsumer;
 import org.burningwave.core.function.ThrowingConsumer;
+import org.burningwave.core.function.ThrowingRunnable;
 import org.burningwave.core.iterable.Properties.Event;
 
 @SuppressWarnings("unchecked")
@@ -612,26 +612,24 @@ public class IterableObjectHelper implements Component {
 						}
 					}
 				: null;
-		Collection<QueuedTasksExecutor.Task> tasks = new HashSet<>();
+		Collection<ThrowingRunnable<? extends Throwable>> executables = new java.util.ArrayList<>();
 		int taskCount = Math.min(Runtime.getRuntime().availableProcessors(), items.size());
 		for (int i = 0; i < taskCount; i++) {
-			tasks.add(
-				BackgroundExecutor.createTask(() -> {
-					while (true) {
-						T item = null;
-						try {
-							synchronized (itemIterator) {
-								item = itemIterator.next();
-							}
-						} catch (NoSuchElementException exc) {
-							break;
-						}						
-						action.accept(item, outputItemCollector);
-					}
-				}).submit()
-			);
+			executables.add(() -> {
+				while (true) {
+					T item = null;
+					try {
+						synchronized (itemIterator) {
+							item = itemIterator.next();
+						}
+					} catch (NoSuchElementException exc) {
+						break;
+					}						
+					action.accept(item, outputItemCollector);
+				}
+			});
 		}
-		tasks.stream().forEach(task -> task.waitForFinish());
+		BackgroundExecutor.submitAll(BackgroundExecutor.createTasks(executables)).waitForFinish();
 		return outputCollection;
 	}
 
@@ -11,6 +11,7 @@ import org.junit.runner.RunWith;
 @SelectClasses({
 	ByteBufferHandlerTest.class,
 	ByteCodeHunterTest.class,
+    CacheTest.class,
     ClassesTest.class,
     ClassFactoryTest.class,
     ComponentContainerTest.class,
@@ -34,8 +35,10 @@ import org.junit.runner.RunWith;
     PathScannerClassLoaderTest.class,
     PropertyAccessorTest.class,
     PropertiesTest.class,
+    QueuedTasksExecutorTest.class,
     SourceCodeHandlerTest.class,
     StringsTest.class,
+    SynchronizerTest.class,
     UnitSourceGeneratorTest.class,
     RepeatedClassFactoryTest.class,
     RepeatedComponentContainerTest.class 
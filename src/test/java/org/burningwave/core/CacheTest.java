@@ -0,0 +1,201 @@
+package org.burningwave.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+
+public class CacheTest extends BaseTest {
+	
+	@Test
+	public void getOrUploadIfAbsentTestOne() {
+		testDoesNotThrow(() -> {
+			Cache.ObjectAndPathForResources<ClassLoader, String> cache = new Cache.ObjectAndPathForResources<>();
+			AtomicInteger loadsCount = new AtomicInteger();
+			Collection<Thread> threads = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				Thread thread = new Thread(() -> {
+					for (int j = 0; j < 1000; j++) {
+						cache.getOrUploadIfAbsent(null, "/path/" + (j % 100), () -> {
+							loadsCount.incrementAndGet();
+							return "resource";
+						});
+					}
+				});
+				threads.add(thread);
+				thread.start();
+			}
+			for (Thread thread : threads) {
+				thread.join();
+			}
+			assertEquals(100, loadsCount.get());
+		});
+	}
+	
+	@Test
+	public void getOrUploadIfAbsentTestTwo() {
+		testDoesNotThrow(() -> {
+			Cache.ObjectAndPathForResources<ClassLoader, String> cache = new Cache.ObjectAndPathForResources<>();
+			ClassLoader classLoader = this.getClass().getClassLoader();
+			String resource = cache.getOrUploadIfAbsent(classLoader, "/path/one", () ->
+				cache.getOrUploadIfAbsent(classLoader, "/path/one", () -> "resource")
+			);
+			assertEquals("resource", resource);
+			assertEquals("resource", cache.get(classLoader, "/path/one"));
+		});
+	}
+	
+	@Test
+	public void removeTestOne() {
+		testDoesNotThrow(() -> {
+			Cache.ObjectAndPathForResources<ClassLoader, String> cache = new Cache.ObjectAndPathForResources<>();
+			ClassLoader classLoader = this.getClass().getClassLoader();
+			cache.getOrUploadIfAbsent(classLoader, "/path/one", () -> "resource");
+			assertEquals("resource", cache.removePath(classLoader, "/path/one"));
+			assertNull(cache.get(classLoader, "/path/one"));
+			assertTrue(cache.getOrUploadIfAbsent(classLoader, "/path/one", () -> "reloaded").equals("reloaded"));
+		});
+	}
+	
+	@Test
+	public void removeTestTwo() {
+		testDoesNotThrow(() -> {
+			Cache.ObjectAndPathForResources<ClassLoader, String> cache = new Cache.ObjectAndPathForResources<>();
+			ClassLoader classLoader = new ClassLoader(this.getClass().getClassLoader()) {};
+			cache.getOrUploadIfAbsent(classLoader, "/path/one", () -> "resource");
+			assertEquals(1, cache.getStatistics().getEntriesCount());
+			classLoader = null;
+			for (int i = 0; i < 100 && cache.getStatistics().getEntriesCount() > 0; i++) {
+				System.gc();
+				Thread.sleep(10);
+			}
+			assertEquals(0, cache.getStatistics().getEntriesCount());
+		});
+	}
+	
+	@Test
+	public void removeAllUnderTestOne() {
+		testDoesNotThrow(() -> {
+			Cache cache = Cache.create();
+			for (int i = 0; i < 10; i++) {
+				cache.pathForContents.getOrUploadIfAbsent("/libs/one.jar/" + i, () -> ByteBuffer.allocate(1));
+				cache.pathForContents.getOrUploadIfAbsent("/libs/two.jar/" + i, () -> ByteBuffer.allocate(1));
+			}
+			assertEquals(10, cache.pathForContents.countUnder("/libs/one.jar/"));
+			assertEquals(20, cache.pathForContents.countUnder("/libs/"));
+			assertEquals(10, cache.pathForContents.removeAllUnder("/libs/one.jar/"));
+			assertEquals(0, cache.pathForContents.countUnder("/libs/one.jar/"));
+			assertNull(cache.pathForContents.get("/libs/one.jar/0"));
+			AtomicInteger count = new AtomicInteger();
+			cache.pathForContents.forEachUnder("/libs/", (path, content) -> count.incrementAndGet());
+			assertEquals(10, count.get());
+		});
+	}
+	
+	@Test
+	public void clearTestOne() {
+		testDoesNotThrow(() -> {
+			Cache cache = Cache.create();
+			AtomicInteger loadsCount = new AtomicInteger();
+			cache.pathForContents.getOrUploadIfAbsent("/path/one", () -> {
+				loadsCount.incrementAndGet();
+				return ByteBuffer.allocate(1);
+			});
+			cache.pathForContents.clear();
+			assertNull(cache.pathForContents.get("/path/one"));
+			Collection<Thread> threads = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				Thread thread = new Thread(() -> {
+					cache.pathForContents.getOrUploadIfAbsent("/path/one", () -> {
+						loadsCount.incrementAndGet();
+						try {
+							Thread.sleep(50);
+						} catch (InterruptedException exc) {
+							throw new RuntimeException(exc);
+						}
+						return ByteBuffer.allocate(1);
+					});
+				});
+				threads.add(thread);
+				thread.start();
+			}
+			for (Thread thread : threads) {
+				thread.join();
+			}
+			assertEquals(2, loadsCount.get());
+			assertNotNull(cache.pathForContents.get("/path/one"));
+			assertEquals(1, cache.pathForContents.getLoadedResourcesCount());
+		});
+	}
+	
+	@Test
+	public void maxWeightTestOne() {
+		testDoesNotThrow(() -> {
+			java.util.Properties config = new java.util.Properties();
+			config.put(Cache.Configuration.Key.PATH_FOR_CONTENTS_MAX_WEIGHT, "4Kb");
+			Cache cache = Cache.create(config);
+			for (int i = 0; i < 64; i++) {
+				cache.pathForContents.getOrUploadIfAbsent("/path/" + i, () -> ByteBuffer.allocate(1024));
+				cache.pathForContents.get("/path/0");
+			}
+			assertTrue(cache.pathForContents.getWeight() <= 4096);
+			assertTrue(cache.pathForContents.getLoadedResourcesCount() <= 4);
+			assertNotNull(cache.pathForContents.get("/path/0"));
+			assertNotNull(cache.pathForContents.getOrUploadIfAbsent("/path/1", () -> ByteBuffer.allocate(1024)));
+		});
+	}
+	
+	@Test
+	public void spillTierTestOne() {
+		testDoesNotThrow(() -> {
+			java.util.Properties config = new java.util.Properties();
+			config.put(Cache.Configuration.Key.PATH_FOR_CONTENTS_MAX_WEIGHT, "4Kb");
+			config.put(Cache.Configuration.Key.PATH_FOR_CONTENTS_SPILL_TIER_ENABLED, "true");
+			config.put(Cache.Configuration.Key.PATH_FOR_CONTENTS_SPILL_TIER_SEGMENT_SIZE, "16Kb");
+			Cache cache = Cache.create(config);
+			try {
+				for (int i = 0; i < 64; i++) {
+					byte[] content = new byte[1024];
+					Arrays.fill(content, (byte)i);
+					cache.pathForContents.getOrUploadIfAbsent("/path/" + i, () -> ByteBuffer.wrap(content));
+				}
+				assertTrue(cache.pathForContents.getWeight() <= 4096);
+				assertEquals(64, cache.pathForContents.getLoadedResourcesCount());
+				assertTrue(cache.getStatistics().get("pathForContents").getSpillsCount() >= 60);
+				ByteBuffer content = cache.pathForContents.get("/path/10");
+				assertEquals(1024, content.remaining());
+				assertEquals(10, content.get(512));
+				assertNotNull(cache.pathForContents.remove("/path/10", false));
+			} finally {
+				cache.close();
+			}
+		});
+	}
+	
+	@Test
+	public void getStatisticsTestOne() {
+		testDoesNotThrow(() -> {
+			Cache cache = Cache.create();
+			ClassLoader classLoader = this.getClass().getClassLoader();
+			for (int i = 0; i < 10; i++) {
+				cache.uniqueKeyForMethods.getOrUploadIfAbsent(classLoader, "key", () -> new ArrayList<>());
+			}
+			Cache.Statistics.Snapshot statistics = cache.getStatistics().get("uniqueKeyForMethods");
+			assertEquals(9, statistics.getHitsCount());
+			assertEquals(1, statistics.getMissesCount());
+			assertEquals(1, statistics.getLoadsCount());
+			assertEquals(1, statistics.getEntriesCount());
+			assertTrue(statistics.getLoadingTimePercentile(99) >= statistics.getLoadingTimePercentile(50));
+		});
+	}
+
+}
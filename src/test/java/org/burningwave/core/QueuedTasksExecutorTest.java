@@ -0,0 +1,535 @@
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
+import static org.burningwave.core.assembler.StaticComponentContainer.ThreadSupplier;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.burningwave.core.concurrent.ExecutionStatistics;
+import org.burningwave.core.concurrent.QueuedTasksExecutor;
+import org.burningwave.core.concurrent.TaskStateException;
+import org.burningwave.core.concurrent.Thread.Supplier;
+import org.burningwave.core.concurrent.TimerWheel;
+import org.burningwave.core.function.ThrowingRunnable;
+import org.junit.jupiter.api.Test;
+
+public class QueuedTasksExecutorTest extends BaseTest {
+
+	@Test
+	public void submitTestOne() {
+		testDoesNotThrow(() -> {
+			QueuedTasksExecutor queuedTasksExecutor = QueuedTasksExecutor.create("Test executor", ThreadSupplier, Thread.NORM_PRIORITY, true, false);
+			try {
+				AtomicInteger counter = new AtomicInteger();
+				Collection<Thread> threads = new ArrayList<>();
+				for (int i = 0; i < 4; i++) {
+					Thread thread = new Thread(() -> {
+						for (int j = 0; j < 250; j++) {
+							queuedTasksExecutor.createTask(() -> {
+								counter.incrementAndGet();
+							}).submit();
+						}
+					});
+					threads.add(thread);
+					thread.start();
+				}
+				for (Thread thread : threads) {
+					thread.join();
+				}
+				queuedTasksExecutor.waitForTasksEnding(Thread.currentThread().getPriority(), true, false);
+				assertEquals(1000, counter.get());
+			} finally {
+				queuedTasksExecutor.shutDown(false);
+			}
+		});
+	}
+
+	@Test
+	public void changePriorityTestOne() {
+		testDoesNotThrow(() -> {
+			QueuedTasksExecutor queuedTasksExecutor = QueuedTasksExecutor.create("Test executor", ThreadSupplier, Thread.NORM_PRIORITY, true, false);
+			try {
+				queuedTasksExecutor.suspend(true, false);
+				List<QueuedTasksExecutor.ProducerTask<Integer>> tasks = new ArrayList<>();
+				for (int i = 0; i < 10; i++) {
+					int index = i;
+					tasks.add(queuedTasksExecutor.createTask(() -> index).submit());
+				}
+				tasks.get(9).changePriority(Thread.MAX_PRIORITY);
+				assertEquals(Thread.MAX_PRIORITY, tasks.get(9).getPriority());
+				assertTrue(tasks.get(5).abort().isAborted());
+				queuedTasksExecutor.resumeFromSuspension();
+				queuedTasksExecutor.waitFor(tasks.get(0));
+				assertEquals(9, (int)tasks.get(9).join());
+				queuedTasksExecutor.waitForTasksEnding(Thread.currentThread().getPriority(), true, false);
+				for (int i = 0; i < 10; i++) {
+					assertTrue(i == 5 ? !tasks.get(i).hasFinished() : tasks.get(i).hasFinished());
+				}
+			} finally {
+				queuedTasksExecutor.shutDown(false);
+			}
+		});
+	}
+
+	@Test
+	public void workStealingTestOne() {
+		testDoesNotThrow(() -> {
+			QueuedTasksExecutor queuedTasksExecutor = QueuedTasksExecutor.create("Test executor", ThreadSupplier, Thread.NORM_PRIORITY, true, false)
+				.setWorkStealingFlag(true);
+			try {
+				assertEquals(1L << 10, (long)queuedTasksExecutor.createTask(() -> count(queuedTasksExecutor, 10)).submit().join());
+				queuedTasksExecutor.waitForTasksEnding(Thread.currentThread().getPriority(), true, false);
+			} finally {
+				queuedTasksExecutor.shutDown(false);
+			}
+		});
+	}
+
+	@Test
+	public void virtualThreadsTestOne() {
+		testDoesNotThrow(() -> {
+			QueuedTasksExecutor queuedTasksExecutor = QueuedTasksExecutor.create("Test executor", ThreadSupplier, Thread.NORM_PRIORITY, true, false)
+				.setVirtualThreadsFlag(true);
+			try {
+				List<QueuedTasksExecutor.ProducerTask<Boolean>> tasks = new ArrayList<>();
+				for (int i = 0; i < 100; i++) {
+					tasks.add(queuedTasksExecutor.createTask(() -> {
+						Thread.sleep(10);
+						return org.burningwave.core.concurrent.Thread.VirtualSupplier.isVirtual(Thread.currentThread());
+					}).submit());
+				}
+				for (QueuedTasksExecutor.ProducerTask<Boolean> task : tasks) {
+					assertEquals(org.burningwave.core.concurrent.Thread.VirtualSupplier.isSupported(), task.join());
+				}
+			} finally {
+				queuedTasksExecutor.shutDown(false);
+			}
+		});
+	}
+
+	@Test
+	public void thenApplyTestOne() {
+		testDoesNotThrow(() -> {
+			QueuedTasksExecutor.ProducerTask<Integer> task = BackgroundExecutor.createTask(() -> 1).submit();
+			QueuedTasksExecutor.ProducerTask<Integer> dependent = task.thenApply(value -> value + 1).thenApply(value -> value * 3);
+			assertEquals(6, (int)dependent.toCompletableFuture().get(10, TimeUnit.SECONDS));
+			assertEquals(6, (int)dependent.join());
+		});
+	}
+
+	@Test
+	public void exceptionallyTestOne() {
+		testDoesNotThrow(() -> {
+			QueuedTasksExecutor.ProducerTask<Integer> task = BackgroundExecutor.createTask(() -> {
+				if (System.currentTimeMillis() > 0) {
+					throw new IllegalStateException("expected");
+				}
+				return 1;
+			}).setExceptionHandler((tsk, exc) -> {}).submit();
+			QueuedTasksExecutor.ProducerTask<Integer> dependent = task.thenApply(value -> value + 1);
+			QueuedTasksExecutor.ProducerTask<Integer> recovered = dependent.exceptionally(exc -> exc instanceof IllegalStateException ? -1 : 0);
+			assertEquals(-1, (int)recovered.join());
+			assertTrue(dependent.toCompletableFuture().isCompletedExceptionally());
+		});
+	}
+
+	@Test
+	public void allOfTestOne() {
+		testDoesNotThrow(() -> {
+			AtomicInteger counter = new AtomicInteger();
+			List<QueuedTasksExecutor.Task> tasks = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				tasks.add(BackgroundExecutor.createTask(() -> {
+					counter.incrementAndGet();
+				}).submit());
+			}
+			BackgroundExecutor.allOf(tasks).join();
+			assertEquals(10, counter.get());
+			assertEquals("value", BackgroundExecutor.submit(CompletableFuture.supplyAsync(() -> "value")).join());
+		});
+	}
+
+	@Test
+	public void tasksCreationTrackingTestOne() {
+		testDoesNotThrow(() -> {
+			QueuedTasksExecutor queuedTasksExecutor = QueuedTasksExecutor.create("Test executor", ThreadSupplier, Thread.NORM_PRIORITY, true, false)
+				.setTasksCreationTrackingFlag(true).setTasksCreationTrackingMaxCapturedFrames(16);
+			try {
+				QueuedTasksExecutor.Task task = queuedTasksExecutor.createTask(() -> {});
+				assertTrue(task.getCreatorInfos().size() <= 16);
+				assertTrue(task.getCreatorInfos().get(0).getClassName().equals(QueuedTasksExecutorTest.class.getName()));
+				queuedTasksExecutor.setTasksCreationTrackingSamplingRate(Integer.MAX_VALUE);
+				int trackedTasksCount = 0;
+				for (int i = 0; i < 100; i++) {
+					if (queuedTasksExecutor.createTask(() -> {}).submit().waitForFinish().getCreatorInfos() != null) {
+						++trackedTasksCount;
+					}
+				}
+				assertTrue(trackedTasksCount < 100);
+			} finally {
+				queuedTasksExecutor.shutDown(false);
+			}
+		});
+	}
+
+	@Test
+	public void tasksQueueCapacityTestOne() {
+		testDoesNotThrow(() -> {
+			QueuedTasksExecutor queuedTasksExecutor = QueuedTasksExecutor.create("Test executor", ThreadSupplier, Thread.NORM_PRIORITY, true, false)
+				.setTasksQueueCapacity(5, QueuedTasksExecutor.OverflowPolicy.REJECT);
+			try {
+				queuedTasksExecutor.suspend(true, false);
+				List<QueuedTasksExecutor.Task> tasks = new ArrayList<>();
+				for (int i = 0; i < 5; i++) {
+					tasks.add(queuedTasksExecutor.createTask(() -> {}).submit());
+				}
+				assertEquals(5, queuedTasksExecutor.getQueuedTasksCount());
+				QueuedTasksExecutor.Task rejectedTask = queuedTasksExecutor.createTask(() -> {});
+				assertThrows(TaskStateException.class, () -> rejectedTask.submit());
+				assertTrue(rejectedTask.isAborted());
+				assertEquals(1, queuedTasksExecutor.getRejectedTasksCount());
+				queuedTasksExecutor.setTasksQueueCapacity(5, QueuedTasksExecutor.OverflowPolicy.DROP_OLDEST_LOW_PRIORITY_TASK);
+				queuedTasksExecutor.createTask(() -> {}).submit();
+				assertTrue(tasks.get(0).isAborted());
+				assertEquals(1, queuedTasksExecutor.getDroppedTasksCount());
+				queuedTasksExecutor.setTasksQueueCapacity(5, QueuedTasksExecutor.OverflowPolicy.RUN_IN_CALLER_THREAD);
+				Thread caller = Thread.currentThread();
+				assertEquals(caller, queuedTasksExecutor.createTask(() -> Thread.currentThread()).submit().join());
+				queuedTasksExecutor.setTasksQueueCapacity(5, QueuedTasksExecutor.OverflowPolicy.BLOCK);
+				QueuedTasksExecutor.ProducerTask<Integer> blockedProducer = BackgroundExecutor.createTask(() -> {
+					queuedTasksExecutor.createTask(() -> {}).submit();
+					return queuedTasksExecutor.getQueuedTasksCount();
+				}).submit();
+				Thread.sleep(100);
+				assertTrue(!blockedProducer.hasFinished());
+				queuedTasksExecutor.resumeFromSuspension();
+				assertTrue(blockedProducer.join() <= 5);
+				queuedTasksExecutor.waitForTasksEnding(Thread.currentThread().getPriority(), true, false);
+				assertEquals(0, queuedTasksExecutor.getQueuedTasksCount());
+			} finally {
+				queuedTasksExecutor.shutDown(false);
+			}
+		});
+	}
+
+	@Test
+	public void timeoutTestOne() {
+		testDoesNotThrow(() -> {
+			QueuedTasksExecutor queuedTasksExecutor = QueuedTasksExecutor.create("Test executor", ThreadSupplier, Thread.NORM_PRIORITY, true, false);
+			try {
+				List<QueuedTasksExecutor.ProducerTask<Boolean>> children = new ArrayList<>();
+				QueuedTasksExecutor.ProducerTask<Boolean> task = queuedTasksExecutor.createTask(() -> {
+					children.add(queuedTasksExecutor.createTask(() -> {
+						while (!QueuedTasksExecutor.CancellationToken.current().isCancellationRequested()) {
+							Thread.yield();
+						}
+						return true;
+					}).submit());
+					Thread.sleep(60000);
+					return false;
+				}).setTimeout(100).submit();
+				long startTime = System.currentTimeMillis();
+				assertThrows(TaskStateException.class, () -> task.join());
+				assertTrue(System.currentTimeMillis() - startTime < 30000);
+				assertTrue(task.isCancellationRequested());
+				children.get(0).waitForFinish();
+				assertTrue(children.get(0).isCancellationRequested());
+				QueuedTasksExecutor.ProducerTask<Boolean> expiredTask = queuedTasksExecutor.createTask(() -> true)
+					.setDeadline(System.currentTimeMillis() - 1).submit();
+				assertThrows(TaskStateException.class, () -> expiredTask.join());
+			} finally {
+				queuedTasksExecutor.shutDown(false);
+			}
+		});
+	}
+
+	@Test
+	public void adaptiveSizingTestOne() {
+		testDoesNotThrow(() -> {
+			Properties config = new Properties();
+			config.putAll(Supplier.Configuration.DEFAULT_VALUES);
+			config.put(Supplier.Configuration.Key.MAX_POOLABLE_THREADS_COUNT, 4);
+			config.put(Supplier.Configuration.Key.MAX_DETACHED_THREADS_COUNT, 4);
+			config.put(Supplier.Configuration.Key.ADAPTIVE_SIZING_ENABLED, true);
+			config.put(Supplier.Configuration.Key.ADAPTIVE_SIZING_MIN_POOLABLE_THREADS_COUNT, 1);
+			config.put(Supplier.Configuration.Key.ADAPTIVE_SIZING_MAX_POOLABLE_THREADS_COUNT, 8);
+			config.put(Supplier.Configuration.Key.ADAPTIVE_SIZING_IDLE_THREAD_RETIRE_TIME, 100);
+			Supplier threadSupplier =
+				Supplier.create("Adaptive thread supplier", config, false);
+			try {
+				AtomicInteger executedTasksCount = new AtomicInteger();
+				for (int i = 0; i < 4; i++) {
+					threadSupplier.getOrCreate().setExecutable(thread -> {
+						executedTasksCount.incrementAndGet();
+					}).start();
+				}
+				long startTime = System.currentTimeMillis();
+				while ((executedTasksCount.get() < 4 || threadSupplier.getPoolableThreadsCount() > 1) &&
+					System.currentTimeMillis() - startTime < 10000
+				) {
+					Thread.sleep(10);
+				}
+				assertEquals(4, executedTasksCount.get());
+				assertEquals(1, threadSupplier.getPoolableThreadsCount());
+			} finally {
+				threadSupplier.shutDownAll();
+			}
+		});
+	}
+
+	@Test
+	public void directHandOffTestOne() {
+		testDoesNotThrow(() -> {
+			Properties config = new Properties();
+			config.putAll(Supplier.Configuration.DEFAULT_VALUES);
+			Supplier threadSupplier = Supplier.create("Hand off thread supplier", config, false);
+			QueuedTasksExecutor queuedTasksExecutor = QueuedTasksExecutor.create("Test executor", threadSupplier, Thread.NORM_PRIORITY, true, false)
+				.setDirectHandOffFlag(true);
+			try {
+				AtomicInteger executedTasksCount = new AtomicInteger();
+				for (int i = 0; i < 10; i++) {
+					queuedTasksExecutor.createTask(() -> {
+						executedTasksCount.incrementAndGet();
+					}).submit().waitForFinish();
+					Thread.sleep(10);
+				}
+				assertEquals(10, executedTasksCount.get());
+				assertTrue(queuedTasksExecutor.getHandedOffTasksCount() > 0);
+			} finally {
+				queuedTasksExecutor.shutDown(false);
+				threadSupplier.shutDownAll();
+			}
+		});
+	}
+
+	@Test
+	public void fairSchedulingTestOne() {
+		testDoesNotThrow(() -> {
+			Properties config = new Properties();
+			config.putAll(Supplier.Configuration.DEFAULT_VALUES);
+			Supplier threadSupplier = Supplier.create("Fair scheduling thread supplier", config, false);
+			QueuedTasksExecutor.Group queuedTasksExecutorGroup = QueuedTasksExecutor.Group.create(
+				"Fair scheduling group", threadSupplier, true, 0, 0, false, false
+			);
+			Map<Integer, Integer> weights = new HashMap<>();
+			weights.put(Thread.MAX_PRIORITY, 4);
+			weights.put(Thread.MIN_PRIORITY, 1);
+			queuedTasksExecutorGroup.enableFairScheduling(1, 10000, weights);
+			try {
+				CountDownLatch gate = new CountDownLatch(1);
+				AtomicInteger runningTasksCount = new AtomicInteger();
+				AtomicInteger maxRunningTasksCount = new AtomicInteger();
+				List<Integer> executionOrder = Collections.synchronizedList(new ArrayList<>());
+				queuedTasksExecutorGroup.createTask(() -> {
+					gate.await();
+				}, Thread.MAX_PRIORITY).submit();
+				List<QueuedTasksExecutor.Task> tasks = new ArrayList<>();
+				for (int i = 0; i < 8; i++) {
+					for (int priority : new int[] {Thread.MAX_PRIORITY, Thread.MIN_PRIORITY}) {
+						tasks.add(queuedTasksExecutorGroup.createTask(() -> {
+							maxRunningTasksCount.accumulateAndGet(runningTasksCount.incrementAndGet(), Math::max);
+							executionOrder.add(priority);
+							runningTasksCount.decrementAndGet();
+						}, priority).submit());
+					}
+				}
+				gate.countDown();
+				for (QueuedTasksExecutor.Task task : tasks) {
+					task.waitForFinish();
+				}
+				assertEquals(1, maxRunningTasksCount.get());
+				assertEquals(16, executionOrder.size());
+				assertTrue(executionOrder.indexOf(Thread.MIN_PRIORITY) < 8);
+			} finally {
+				queuedTasksExecutorGroup.shutDown(false);
+				threadSupplier.shutDownAll();
+			}
+		});
+	}
+
+	@Test
+	public void fairSchedulingTestTwo() {
+		testDoesNotThrow(() -> {
+			Properties config = new Properties();
+			config.putAll(Supplier.Configuration.DEFAULT_VALUES);
+			Supplier threadSupplier = Supplier.create("Fair scheduling thread supplier", config, false);
+			QueuedTasksExecutor.Group queuedTasksExecutorGroup = QueuedTasksExecutor.Group.create(
+				"Fair scheduling group", threadSupplier, true, 0, 0, false, false
+			);
+			Map<Integer, Integer> weights = new HashMap<>();
+			weights.put(Thread.MAX_PRIORITY, 4);
+			weights.put(Thread.MIN_PRIORITY, 1);
+			queuedTasksExecutorGroup.enableFairScheduling(1, 10, weights);
+			try {
+				CountDownLatch gate = new CountDownLatch(1);
+				AtomicInteger executedTasksCount = new AtomicInteger();
+				queuedTasksExecutorGroup.createTask(() -> {
+					gate.await();
+				}, Thread.MAX_PRIORITY).submit();
+				List<QueuedTasksExecutor.Task> tasks = new ArrayList<>();
+				for (int i = 0; i < 4; i++) {
+					tasks.add(queuedTasksExecutorGroup.createTask(() -> {
+						executedTasksCount.incrementAndGet();
+					}, Thread.MAX_PRIORITY).submit());
+				}
+				Thread.sleep(200);
+				assertEquals(0, executedTasksCount.get());
+				assertEquals(0, queuedTasksExecutorGroup.getFairScheduler().getCapEscapesCount());
+				gate.countDown();
+				for (QueuedTasksExecutor.Task task : tasks) {
+					task.waitForFinish();
+				}
+				assertEquals(4, executedTasksCount.get());
+			} finally {
+				queuedTasksExecutorGroup.shutDown(false);
+				threadSupplier.shutDownAll();
+			}
+		});
+	}
+
+	@Test
+	public void statisticsTestOne() {
+		testDoesNotThrow(() -> {
+			QueuedTasksExecutor queuedTasksExecutor = QueuedTasksExecutor.create("Test executor", ThreadSupplier, Thread.NORM_PRIORITY, true, false)
+				.setStatisticsFlag(true);
+			try {
+				List<QueuedTasksExecutor.Task> tasks = new ArrayList<>();
+				for (int i = 0; i < 10; i++) {
+					int index = i;
+					tasks.add(queuedTasksExecutor.createTask(() -> {
+						Thread.sleep(2);
+						if (index == 0) {
+							throw new IllegalStateException("Test exception");
+						}
+					}).submit());
+				}
+				for (QueuedTasksExecutor.Task task : tasks) {
+					task.waitForFinish();
+				}
+				ExecutionStatistics statistics = queuedTasksExecutor.getStatistics();
+				assertEquals(10, statistics.getSubmittedTasksCount());
+				assertEquals(9, statistics.getCompletedTasksCount());
+				assertEquals(1, statistics.getFailedTasksCount());
+				assertEquals(10, statistics.getQueueWaitTime().getCount());
+				assertEquals(10, statistics.getRunTime().getCount());
+				assertTrue(statistics.getRunTime().getValueAtPercentile(50) >= 1000);
+				assertTrue(statistics.getRunTime().getValueAtPercentile(99) <= statistics.getRunTime().getMax());
+				assertTrue(!queuedTasksExecutor.getStatisticsAsString().isEmpty());
+			} finally {
+				queuedTasksExecutor.shutDown(false);
+			}
+		});
+	}
+
+	@Test
+	public void submitAllTestOne() {
+		testDoesNotThrow(() -> {
+			AtomicInteger executedTasksCount = new AtomicInteger();
+			List<ThrowingRunnable<? extends Throwable>> executables = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				int index = i;
+				executables.add(() -> {
+					executedTasksCount.incrementAndGet();
+					if (index % 50 == 0) {
+						throw new IllegalStateException("Test exception " + index);
+					}
+				});
+			}
+			QueuedTasksExecutor.Batch batch = BackgroundExecutor.submitAll(BackgroundExecutor.createTasks(executables));
+			CompletionException exception = assertThrows(CompletionException.class, () -> batch.join());
+			assertEquals(100, executedTasksCount.get());
+			assertEquals(2, batch.getExceptions().size());
+			assertEquals(1, exception.getSuppressed().length);
+			assertTrue(batch.hasFinished());
+		});
+	}
+
+	@Test
+	public void submitAllTestTwo() {
+		testDoesNotThrow(() -> {
+			QueuedTasksExecutor queuedTasksExecutor = QueuedTasksExecutor.create("Test executor", ThreadSupplier, Thread.NORM_PRIORITY, true, false)
+				.setTasksQueueCapacity(5, QueuedTasksExecutor.OverflowPolicy.REJECT);
+			try {
+				queuedTasksExecutor.suspend(true, false);
+				List<ThrowingRunnable<? extends Throwable>> executables = new ArrayList<>();
+				for (int i = 0; i < 3; i++) {
+					executables.add(() -> {});
+				}
+				queuedTasksExecutor.submitAll(queuedTasksExecutor.createTasks(executables));
+				assertEquals(3, queuedTasksExecutor.getQueuedTasksCount());
+				List<QueuedTasksExecutor.Task> overflowingTasks = queuedTasksExecutor.createTasks(executables);
+				assertThrows(TaskStateException.class, () -> queuedTasksExecutor.submitAll(overflowingTasks));
+				assertEquals(5, queuedTasksExecutor.getQueuedTasksCount());
+				assertTrue(overflowingTasks.get(2).isAborted());
+				assertEquals(1, queuedTasksExecutor.getRejectedTasksCount());
+				queuedTasksExecutor.resumeFromSuspension();
+				queuedTasksExecutor.waitForTasksEnding(Thread.currentThread().getPriority(), true, false);
+				assertEquals(0, queuedTasksExecutor.getQueuedTasksCount());
+			} finally {
+				queuedTasksExecutor.shutDown(false);
+			}
+		});
+	}
+
+	@Test
+	public void scheduleTestOne() {
+		testDoesNotThrow(() -> {
+			AtomicInteger oneShotCounter = new AtomicInteger();
+			AtomicInteger fixedRateCounter = new AtomicInteger();
+			AtomicInteger fixedDelayCounter = new AtomicInteger();
+			BackgroundExecutor.schedule(oneShotCounter::incrementAndGet, 50);
+			TimerWheel.Job fixedRateJob = BackgroundExecutor.scheduleAtFixedRate(fixedRateCounter::incrementAndGet, 0, 20);
+			TimerWheel.Job fixedDelayJob = BackgroundExecutor.scheduleWithFixedDelay(fixedDelayCounter::incrementAndGet, 0, 20);
+			long startTime = System.currentTimeMillis();
+			while ((oneShotCounter.get() < 1 || fixedRateCounter.get() < 3 || fixedDelayCounter.get() < 3) &&
+				System.currentTimeMillis() - startTime < 10000
+			) {
+				Thread.sleep(10);
+			}
+			assertTrue(fixedRateJob.cancel() || fixedRateJob.isCancelled());
+			assertTrue(fixedDelayJob.cancel() || fixedDelayJob.isCancelled());
+			Thread.sleep(100);
+			int fixedRateCount = fixedRateCounter.get();
+			Thread.sleep(100);
+			assertEquals(1, oneShotCounter.get());
+			assertTrue(fixedRateCount >= 3);
+			assertTrue(fixedDelayCounter.get() >= 3);
+			assertEquals(fixedRateCount, fixedRateCounter.get());
+		});
+	}
+
+	@Test
+	public void scheduleTestTwo() {
+		testDoesNotThrow(() -> {
+			CompletableFuture<String> executorName = new CompletableFuture<>();
+			BackgroundExecutor.createJob(() ->
+				executorName.complete(Thread.currentThread().getName())
+			).setExecutionOnDedicatedThreadFlag(true).schedule(10);
+			assertTrue(executorName.get(10, TimeUnit.SECONDS).endsWith(" dedicated executor"));
+		});
+	}
+
+	private long count(QueuedTasksExecutor queuedTasksExecutor, int depth) {
+		if (depth == 0) {
+			return 1;
+		}
+		QueuedTasksExecutor.ProducerTask<Long> left = queuedTasksExecutor.createTask(() -> count(queuedTasksExecutor, depth - 1)).submit();
+		QueuedTasksExecutor.ProducerTask<Long> right = queuedTasksExecutor.createTask(() -> count(queuedTasksExecutor, depth - 1)).submit();
+		return right.join() + left.join();
+	}
+
+}
@@ -0,0 +1,225 @@
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+public class SynchronizerTest extends BaseTest {
+	
+	@Test
+	public void executeTestOne() {
+		testDoesNotThrow(() -> {
+			int[] counter = new int[1];
+			Collection<Thread> threads = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				Thread thread = new Thread(() -> {
+					for (int j = 0; j < 10000; j++) {
+						Synchronizer.execute(this, "counter", () -> {
+							++counter[0];
+						});
+					}
+				});
+				threads.add(thread);
+				thread.start();
+			}
+			for (Thread thread : threads) {
+				thread.join();
+			}
+			assertEquals(80000, counter[0]);
+		});
+	}
+	
+	@Test
+	public void executeOptimisticReadTestOne() {
+		testDoesNotThrow(() -> {
+			long[] pair = new long[2];
+			Thread writer = new Thread(() -> {
+				for (int i = 0; i < 10000; i++) {
+					Synchronizer.executeWrite(this, "pair", () -> {
+						++pair[0];
+						++pair[1];
+					});
+				}
+			});
+			writer.start();
+			for (int i = 0; i < 10000; i++) {
+				assertEquals(0L, (long)Synchronizer.executeOptimisticRead(this, "pair", () -> pair[0] - pair[1]));
+				assertEquals(0L, (long)Synchronizer.executeRead(this, "pair", () -> pair[0] - pair[1]));
+			}
+			writer.join();
+			assertEquals(10000L, (long)Synchronizer.executeRead(this, "pair", () -> pair[1]));
+		});
+	}
+	
+	@Test
+	public void executeWriteTestOne() {
+		testDoesNotThrow(() -> {
+			assertEquals(1L, (long)Synchronizer.executeWrite(this, "outer", () ->
+				Synchronizer.executeWrite(this, "outer", () ->
+					Synchronizer.executeRead(this, "outer", () ->
+						Synchronizer.executeWrite(this, "inner", () -> 1L)
+					)
+				)
+			));
+			assertThrows(IllegalStateException.class, () ->
+				Synchronizer.executeRead(this, "outer", () ->
+					Synchronizer.executeWrite(this, "outer", () -> 1L)
+				)
+			);
+		});
+	}
+	
+	@Test
+	public void contentionProfilingTestOne() {
+		testDoesNotThrow(() -> {
+			Synchronizer.startContentionProfiling(1);
+			try {
+				Collection<Thread> threads = new ArrayList<>();
+				for (int i = 0; i < 4; i++) {
+					Thread thread = new Thread(() -> {
+						for (int j = 0; j < 10; j++) {
+							Synchronizer.execute("SynchronizerTest_contended", () -> {
+								try {
+									Thread.sleep(1);
+								} catch (InterruptedException exc) {
+									throw new RuntimeException(exc);
+								}
+							});
+						}
+					});
+					threads.add(thread);
+					thread.start();
+				}
+				for (Thread thread : threads) {
+					thread.join();
+				}
+				org.burningwave.core.concurrent.Synchronizer.ContentionProfiler.Snapshot statistics =
+					Synchronizer.getContentionStatistics().get("SynchronizerTest");
+				assertEquals(40, statistics.getSampledAcquisitionsCount());
+				assertTrue(statistics.getWaitTimePercentile(99) >= statistics.getWaitTimePercentile(50));
+				assertTrue(Synchronizer.getMostContendedKeys(10).containsKey("SynchronizerTest_contended"));
+			} finally {
+				Synchronizer.stopContentionProfiling();
+			}
+		});
+	}
+	
+	@Test
+	public void contentionProfilingTestTwo() {
+		testDoesNotThrow(() -> {
+			Synchronizer.startContentionProfiling(1);
+			try {
+				long[] value = new long[1];
+				Synchronizer.executeWrite("SynchronizerLockTest", "value", () -> {
+					++value[0];
+				});
+				assertEquals(1L, (long)Synchronizer.executeRead("SynchronizerLockTest", "value", () -> value[0]));
+				assertEquals(1L, (long)Synchronizer.executeWrite("SynchronizerLockTest", "value", () -> value[0]));
+				assertEquals(3, Synchronizer.getContentionStatistics().get("SynchronizerLockTest").getSampledAcquisitionsCount());
+			} finally {
+				Synchronizer.stopContentionProfiling();
+			}
+		});
+	}
+	
+	@Test
+	public void executeAsyncTestOne() {
+		testDoesNotThrow(() -> {
+			List<Integer> values = new ArrayList<>();
+			CompletableFuture<Integer> lastExecution = null;
+			for (int i = 0; i < 100; i++) {
+				int value = i;
+				lastExecution = Synchronizer.executeAsync(this, () -> {
+					values.add(value);
+					if (value == 50) {
+						throw new RuntimeException("Test exception");
+					}
+					return value;
+				});
+			}
+			assertEquals(99, (int)lastExecution.get());
+			assertEquals(100, values.size());
+			for (int i = 0; i < 100; i++) {
+				assertEquals(i, (int)values.get(i));
+			}
+		});
+	}
+	
+	@Test
+	public void deadLockDetectionTestOne() {
+		testDoesNotThrow(() -> {
+			Synchronizer.startDeadLockDetection();
+			try {
+				Synchronizer.execute("SynchronizerTest_first", () -> {
+					Synchronizer.execute("SynchronizerTest_second", () -> {});
+				});
+				Thread thread = new Thread(() -> {
+					Synchronizer.execute("SynchronizerTest_second", () -> {
+						Synchronizer.execute("SynchronizerTest_first", () -> {});
+					});
+				});
+				thread.start();
+				thread.join();
+				assertTrue(Synchronizer.getProbableDeadLocks().stream().anyMatch(report ->
+					report.contains("SynchronizerTest_first") && report.contains("SynchronizerTest_second")
+				));
+			} finally {
+				Synchronizer.stopDeadLockDetection();
+			}
+		});
+	}
+	
+	@Test
+	public void deadLockDetectionTestTwo() {
+		testDoesNotThrow(() -> {
+			Synchronizer.startDeadLockDetection();
+			try {
+				Synchronizer.execute("SynchronizerTest", "first", () -> {
+					Synchronizer.execute("SynchronizerTest", "second", () -> {});
+				});
+				Thread thread = new Thread(() -> {
+					Synchronizer.execute("SynchronizerTest", "second", () -> {
+						Synchronizer.execute("SynchronizerTest", "first", () -> {});
+					});
+				});
+				thread.start();
+				thread.join();
+				assertTrue(Synchronizer.getProbableDeadLocks().stream().anyMatch(report ->
+					report.contains("SynchronizerTest_first") && report.contains("SynchronizerTest_second")
+				));
+			} finally {
+				Synchronizer.stopDeadLockDetection();
+			}
+		});
+	}
+	
+	@Test
+	public void pinningDetectionTestOne() {
+		testDoesNotThrow(() -> {
+			Synchronizer.startPinningDetection();
+			try {
+				Synchronizer.execute("SynchronizerTest_pinning", () -> {});
+				assertTrue(!Synchronizer.getPinnedSections().containsKey("SynchronizerTest_pinning"));
+			} finally {
+				Synchronizer.stopPinningDetection();
+			}
+		});
+	}
+	
+	@Test
+	public void getMutexTestOne() {
+		testDoesNotThrow(() -> {
+			assertSame(Synchronizer.getMutex(this, "key"), Synchronizer.getMutex(this, "key"));
+		});
+	}
+	
+}